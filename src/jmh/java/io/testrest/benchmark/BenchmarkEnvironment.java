@@ -0,0 +1,46 @@
+package io.testrest.benchmark;
+
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.datatype.graph.OperationNodeList;
+import io.testrest.parser.OpenAPIParser;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Sets up the environment of the tool for a bundled specification, as Main does before generating tests.
+ */
+public class BenchmarkEnvironment {
+
+    public static final String SPECIFICATIONS = "src/main/resources/specifications/";
+
+    /**
+     * Creates the environment from a minimal configuration pointing to the specification.
+     * @param specification path of the specification, relative to the bundled specifications directory.
+     * @return the environment, also set as the environment of Main.
+     */
+    public static Environment create(String specification) throws IOException {
+        File config = File.createTempFile("benchmark_config", ".json");
+        config.deleteOnExit();
+        try (FileWriter writer = new FileWriter(config)) {
+            writer.write("{\"openApiSpecPath\": \"" + SPECIFICATIONS + specification + "\"}");
+        }
+
+        Environment environment = new Environment(config.getPath());
+        Main.setEnvironment(environment);
+        return environment;
+    }
+
+    /**
+     * Parses the specification of the environment and sets the operations of Main.
+     * @return the parsed operations.
+     */
+    public static OperationNodeList readOperations(String specification) throws Exception {
+        OperationNodeList operationList = new OperationNodeList();
+        OpenAPIParser.readOAS(SPECIFICATIONS + specification, operationList);
+        Main.setOperationList(operationList);
+        return operationList;
+    }
+}
@@ -0,0 +1,55 @@
+package io.testrest.benchmark;
+
+import io.testrest.helper.ObjectHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deep cloning of parameter values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloningBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private String string;
+    private List<Object> list;
+    private Map<String, Object> map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        string = "value".repeat(size);
+        list = new ArrayList<>();
+        map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            list.add("item" + i);
+            map.put("key" + i, i % 2 == 0 ? "value" + i : List.of(i, "nested" + i));
+        }
+    }
+
+    @Benchmark
+    public Object deepCloneString() {
+        return ObjectHelper.deepCloneObject(string);
+    }
+
+    @Benchmark
+    public Object deepCloneList() {
+        return ObjectHelper.deepCloneObject(list);
+    }
+
+    @Benchmark
+    public Object deepCloneMap() {
+        return ObjectHelper.deepCloneObject(map);
+    }
+}
@@ -0,0 +1,69 @@
+package io.testrest.benchmark;
+
+import io.testrest.core.dictionary.Dictionary;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.datatype.parameter.NormalizedParameterName;
+import io.testrest.datatype.parameter.ParameterName;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insertion and lookups in a Dictionary holding from 10k to 1M entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    // Number of distinct parameter names in the dictionary
+    private static final int NAMES = 1000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int entries;
+
+    private Dictionary dictionary;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkEnvironment.create("restgo/genome_openapi.yaml");
+        dictionary = new Dictionary();
+        for (int i = 0; i < entries; i++) {
+            dictionary.addEntry(new DictionaryEntry(name(i), "value" + i));
+        }
+        next = entries;
+    }
+
+    private static String name(int i) {
+        return "parameter" + (i % NAMES) + "_name";
+    }
+
+    @Benchmark
+    public void addEntry() {
+        dictionary.addEntry(new DictionaryEntry(name(next), "value" + next));
+        next++;
+    }
+
+    @Benchmark
+    public List<DictionaryEntry> getEntriesByNormalizedParameterName() {
+        next++;
+        return dictionary.getEntriesByNormalizedParameterName(new NormalizedParameterName(name(next)), null);
+    }
+
+    @Benchmark
+    public List<DictionaryEntry> getEntriesByParameterName() {
+        next++;
+        return dictionary.getEntriesByParameterName(new ParameterName(name(next)), null);
+    }
+
+    @Benchmark
+    public List<DictionaryEntry> getEntriesByValueLength() {
+        next++;
+        return dictionary.getEntriesByValueLength(6 + next % 6);
+    }
+}
@@ -0,0 +1,48 @@
+package io.testrest.benchmark;
+
+import io.testrest.datatype.normalizer.PorterStemmer;
+import io.testrest.datatype.parameter.NormalizedParameterName;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Normalization of parameter names, with and without the memoization caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NormalizationBenchmark {
+
+    private static final String[] NAMES = {"petId", "user_name", "createdAt", "X-Request-Id", "shippingAddresses",
+            "pageSize", "organizationIdentifier", "last_modified_date", "orderItems", "accountStatus"};
+
+    private static final String[] WORDS = {"running", "addresses", "organization", "identifiers", "modified",
+            "generalizations", "pets", "relational", "status", "hopeful"};
+
+    private final PorterStemmer stemmer = new PorterStemmer();
+    private int next;
+
+    @Benchmark
+    public String computeNormalizedName() {
+        next++;
+        return NormalizedParameterName.computeNormalizedName(NAMES[next % NAMES.length]);
+    }
+
+    @Benchmark
+    public String computeNormalizedNameUncached() {
+        next++;
+        NormalizedParameterName.getNormalizedNameCache().clear();
+        NormalizedParameterName.getStemCache().clear();
+        return NormalizedParameterName.computeNormalizedName(NAMES[next % NAMES.length]);
+    }
+
+    @Benchmark
+    public String stemWord() {
+        next++;
+        return stemmer.stemWord(WORDS[next % WORDS.length]);
+    }
+}
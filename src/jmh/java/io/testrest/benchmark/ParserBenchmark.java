@@ -0,0 +1,41 @@
+package io.testrest.benchmark;
+
+import io.testrest.datatype.graph.OperationDependencyGraph;
+import io.testrest.datatype.graph.GraphBuilder;
+import io.testrest.datatype.graph.OperationNodeList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading of the bundled specifications and building of their Operation Dependency Graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"restgo/genome_openapi.yaml", "swaggers/bbc.co.uk.json", "swaggers/magento.com.json", "swaggers/osf.io.json"})
+    public String specification;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkEnvironment.create(specification);
+        BenchmarkEnvironment.readOperations(specification);
+    }
+
+    @Benchmark
+    public OperationNodeList readOAS() throws Exception {
+        return BenchmarkEnvironment.readOperations(specification);
+    }
+
+    @Benchmark
+    public OperationDependencyGraph buildGraph() {
+        OperationDependencyGraph ODG = new OperationDependencyGraph();
+        GraphBuilder.buildGraph(ODG);
+        return ODG;
+    }
+}
@@ -0,0 +1,44 @@
+package io.testrest.benchmark;
+
+import io.testrest.core.valueProvider.multi.CombinedProviderParameterValueProvider;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLeaf;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Values provided for the parameters of the bundled specifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueProviderBenchmark {
+
+    @Param({"restgo/genome_openapi.yaml", "swaggers/bbc.co.uk.json", "swaggers/magento.com.json"})
+    public String specification;
+
+    private CombinedProviderParameterValueProvider provider;
+    private final List<ParameterLeaf> leaves = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkEnvironment.create(specification);
+        for (OperationNode operation : BenchmarkEnvironment.readOperations(specification).getOperationNodeList()) {
+            leaves.addAll(operation.getParameterLeafList());
+        }
+        provider = new CombinedProviderParameterValueProvider();
+    }
+
+    @Benchmark
+    public Object provideValueFor() {
+        next = (next + 1) % leaves.size();
+        return provider.provideValueFor(leaves.get(next));
+    }
+}
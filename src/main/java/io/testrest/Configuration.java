@@ -3,13 +3,17 @@ package io.testrest;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import io.testrest.boot.AuthenticationInfo;
+import io.testrest.core.dictionary.EvictionPolicy;
 import io.testrest.core.valueProvider.FuzzingStrategy;
+import io.testrest.core.valueProvider.ValueSource;
+import io.testrest.helper.RunLog;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.net.http.HttpClient;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -23,6 +27,31 @@ public class Configuration {
     private static Double maxFuzzingTimes; // number of fuzzing times per operation
     private static Double numberOfMutants; // number of mutants for each nominal test
     private static FuzzingStrategy fuzzingStrategy; // strategy to choose value for parameters
+    private static Map<FuzzingStrategy, Map<ValueSource, Double>> valueSourceWeights = new EnumMap<>(FuzzingStrategy.class); // weights of value sources for each strategy, 1 if not set
+    private static int parallelism; // number of operations tested concurrently
+    private static int maxConcurrentRequestsPerHost; // number of requests sent concurrently to the same host
+    private static int maxValuesPerOutput = 20; // number of values of the same output harvested from one response
+    private static boolean specSnapshotEnabled = true; // reuse the parsed specification of previous runs
+    private static double timeBudgetMinutes = 60; // wall-clock budget of the nominal fuzzing, 0 for no limit
+    private static double operationBudgetSeconds = 0; // time budget of each operation over all loops, 0 for no limit
+    private static double loopBudgetSeconds = 0; // time budget of each ODG loop, 0 for no limit
+    private static int plateauLoops = 10; // number of loops without coverage gain before stopping, 0 to never stop
+    private static boolean checkpointEnabled = true; // log the progress of the session so that it can be resumed
+    private static boolean dictionaryStoreEnabled = false; // keep Dictionary values across runs on the same specification
+    private static double dictionaryStoreTtlHours = 168; // hours a stored value is kept since last observed, 0 to keep it forever
+    private static int dictionaryCapacity = 0; // number of Dictionary values kept for each normalized name, 0 for no limit
+    private static EvictionPolicy dictionaryEviction = EvictionPolicy.LRU; // how Dictionary values are evicted when a name is full
+    private static int suiteThreads = 10; // number of scenarios of the final test suite run concurrently
+    private static int suiteMaxConcurrentRequestsPerServer = 0; // requests of the final test suite in flight to the same server, 0 for no limit
+    private static double suiteRateLimit = 0; // requests per second of the final test suite, 0 for no limit
+    private static double suiteRateLimitPerServer = 0; // requests per second of the final test suite to the same server, 0 for no limit
+    private static HttpClient.Version httpVersion = HttpClient.Version.HTTP_2; // preferred HTTP version, HTTP_2 multiplexes requests to the same server over one connection
+    private static int connectionPoolSize = 0; // connections kept alive to each server, 0 for no limit
+    private static int keepAliveSeconds = 0; // seconds an idle connection is kept alive, 0 for the default of the HTTP client
+    private static boolean suitePooledConnections = true; // run the final test suite over the connection pools of the servers
+    private static RunLog.Level logLevel = RunLog.Level.INFO; // lowest level of the records kept in the run log, DEBUG for per-call output
+    private static int logQueueCapacity = 8192; // number of run log records waiting to be written
+    private static Long seed; // seed of the random generators, to replay a session, drawn at random if not set
     private static String locale = "en"; // locale used for generating data (See supported locales at https://github.com/DiUS/java-faker/tree/master#supported-locales)
     private String outputPath;
     private String testingSessionName;
@@ -118,6 +147,161 @@ public class Configuration {
             fuzzingStrategy = FuzzingStrategy.DICTIONARY_FIRST;
         }
 
+        valueSourceWeights = new EnumMap<>(FuzzingStrategy.class);
+        if (configMap.get("valueSourceWeights") instanceof Map) {
+            Map<?, ?> strategies = (Map<?, ?>) configMap.get("valueSourceWeights");
+            strategies.forEach((strategy, weights) -> {
+                FuzzingStrategy weightedStrategy;
+                try {
+                    weightedStrategy = FuzzingStrategy.getStrategy(strategy.toString());
+                } catch (IllegalArgumentException e) {
+                    logger.warning("Unknown fuzzing strategy " + strategy + " in value source weights, ignoring its weights");
+                    return;
+                }
+                if (!(weights instanceof Map)) {
+                    logger.warning("Value source weights of " + strategy + " are not an object, ignoring them");
+                    return;
+                }
+
+                Map<ValueSource, Double> strategyWeights = new EnumMap<>(ValueSource.class);
+                ((Map<?, ?>) weights).forEach((source, weight) -> {
+                    ValueSource valueSource;
+                    try {
+                        valueSource = ValueSource.getSource(source.toString());
+                    } catch (IllegalArgumentException e) {
+                        logger.warning("Unknown value source " + source + " in weights of " + strategy + ", ignoring it");
+                        return;
+                    }
+                    if (!(weight instanceof Number) || !Double.isFinite(((Number) weight).doubleValue())) {
+                        logger.warning("Invalid weight " + weight + " of " + source + " for " + strategy + ", using 1");
+                        return;
+                    }
+                    strategyWeights.put(valueSource, Math.max(0, ((Number) weight).doubleValue()));
+                });
+                valueSourceWeights.put(weightedStrategy, strategyWeights);
+            });
+        } else if (configMap.containsKey("valueSourceWeights")) {
+            logger.warning("Value source weights are not an object, ignoring them");
+        }
+
+        if (configMap.containsKey("parallelism")) {
+            parallelism = Math.max(1, ((Double) configMap.get("parallelism")).intValue());
+        } else {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+
+        if (configMap.containsKey("maxConcurrentRequestsPerHost")) {
+            maxConcurrentRequestsPerHost = Math.max(1, ((Double) configMap.get("maxConcurrentRequestsPerHost")).intValue());
+        } else {
+            maxConcurrentRequestsPerHost = parallelism;
+        }
+
+        if (configMap.containsKey("maxValuesPerOutput")) {
+            maxValuesPerOutput = Math.max(1, ((Double) configMap.get("maxValuesPerOutput")).intValue());
+        }
+
+        if (configMap.containsKey("specSnapshot")) {
+            specSnapshotEnabled = (Boolean) configMap.get("specSnapshot");
+        }
+
+        if (configMap.containsKey("timeBudgetMinutes")) {
+            timeBudgetMinutes = Math.max(0, (Double) configMap.get("timeBudgetMinutes"));
+        }
+
+        if (configMap.containsKey("operationBudgetSeconds")) {
+            operationBudgetSeconds = Math.max(0, (Double) configMap.get("operationBudgetSeconds"));
+        }
+
+        if (configMap.containsKey("loopBudgetSeconds")) {
+            loopBudgetSeconds = Math.max(0, (Double) configMap.get("loopBudgetSeconds"));
+        }
+
+        if (configMap.containsKey("plateauLoops")) {
+            plateauLoops = Math.max(0, ((Double) configMap.get("plateauLoops")).intValue());
+        }
+
+        if (configMap.containsKey("checkpoint")) {
+            checkpointEnabled = (Boolean) configMap.get("checkpoint");
+        }
+
+        if (configMap.containsKey("dictionaryStore")) {
+            dictionaryStoreEnabled = (Boolean) configMap.get("dictionaryStore");
+        }
+
+        if (configMap.containsKey("dictionaryStoreTtlHours")) {
+            dictionaryStoreTtlHours = Math.max(0, (Double) configMap.get("dictionaryStoreTtlHours"));
+        }
+
+        if (configMap.containsKey("dictionaryCapacity")) {
+            dictionaryCapacity = Math.max(0, ((Double) configMap.get("dictionaryCapacity")).intValue());
+        }
+
+        if (configMap.containsKey("dictionaryEviction")) {
+            try {
+                dictionaryEviction = EvictionPolicy.valueOf(configMap.get("dictionaryEviction").toString().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Unknown Dictionary eviction policy " + configMap.get("dictionaryEviction") + ", using " + dictionaryEviction);
+            }
+        }
+
+        if (configMap.containsKey("suiteThreads")) {
+            suiteThreads = Math.max(1, ((Double) configMap.get("suiteThreads")).intValue());
+        }
+
+        if (configMap.containsKey("suiteMaxConcurrentRequestsPerServer")) {
+            suiteMaxConcurrentRequestsPerServer = Math.max(0, ((Double) configMap.get("suiteMaxConcurrentRequestsPerServer")).intValue());
+        }
+
+        if (configMap.containsKey("suiteRateLimit")) {
+            suiteRateLimit = Math.max(0, (Double) configMap.get("suiteRateLimit"));
+        }
+
+        if (configMap.containsKey("suiteRateLimitPerServer")) {
+            suiteRateLimitPerServer = Math.max(0, (Double) configMap.get("suiteRateLimitPerServer"));
+        }
+
+        if (configMap.containsKey("httpVersion")) {
+            try {
+                httpVersion = HttpClient.Version.valueOf(configMap.get("httpVersion").toString().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Unknown HTTP version " + configMap.get("httpVersion") + ", using " + httpVersion);
+            }
+        }
+
+        if (configMap.containsKey("connectionPoolSize")) {
+            connectionPoolSize = Math.max(0, ((Double) configMap.get("connectionPoolSize")).intValue());
+        }
+
+        if (configMap.containsKey("keepAliveSeconds")) {
+            keepAliveSeconds = Math.max(0, ((Double) configMap.get("keepAliveSeconds")).intValue());
+        }
+
+        if (configMap.containsKey("suitePooledConnections")) {
+            suitePooledConnections = (Boolean) configMap.get("suitePooledConnections");
+        }
+
+        if (configMap.containsKey("logLevel")) {
+            try {
+                logLevel = RunLog.Level.valueOf(configMap.get("logLevel").toString().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Unknown log level " + configMap.get("logLevel") + ", using " + logLevel);
+            }
+        }
+
+        if (configMap.containsKey("logQueueCapacity")) {
+            logQueueCapacity = Math.max(1, ((Double) configMap.get("logQueueCapacity")).intValue());
+        }
+
+        if (configMap.containsKey("seed")) {
+            // Numbers are read as doubles, seeds above 2^53 must be given as strings
+            try {
+                Object value = configMap.get("seed");
+                seed = value instanceof Number ? Long.valueOf(((Number) value).longValue()) : Long.valueOf(value.toString().trim());
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid seed " + configMap.get("seed") + ", using a random seed");
+            }
+        }
+
         if (configMap.containsKey("authenticationCommand")) {
             if (configMap.get("authenticationCommand") instanceof Map) {
                 Map auth_map = (Map) configMap.get("authenticationCommand");
@@ -127,6 +311,13 @@ public class Configuration {
         }
     }
 
+    /**
+     * @return relative weight of a value source when choosing a value with the given strategy.
+     */
+    public static double getValueSourceWeight(FuzzingStrategy strategy, ValueSource source) {
+        return valueSourceWeights.getOrDefault(strategy, Map.of()).getOrDefault(source, 1.);
+    }
+
     public static String getOpenApiSpecPath() {
         return openApiSpecPath;
     }
@@ -143,6 +334,113 @@ public class Configuration {
         return numberOfMutants;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getMaxConcurrentRequestsPerHost() {
+        return maxConcurrentRequestsPerHost;
+    }
+
+    public static int getMaxValuesPerOutput() {
+        return maxValuesPerOutput;
+    }
+
+    public static boolean isSpecSnapshotEnabled() {
+        return specSnapshotEnabled;
+    }
+
+    public static void setSpecSnapshotEnabled(boolean specSnapshotEnabled) {
+        Configuration.specSnapshotEnabled = specSnapshotEnabled;
+    }
+
+    public static double getTimeBudgetMinutes() {
+        return timeBudgetMinutes;
+    }
+
+    public static double getOperationBudgetSeconds() {
+        return operationBudgetSeconds;
+    }
+
+    public static double getLoopBudgetSeconds() {
+        return loopBudgetSeconds;
+    }
+
+    public static int getPlateauLoops() {
+        return plateauLoops;
+    }
+
+    public static boolean isCheckpointEnabled() {
+        return checkpointEnabled;
+    }
+
+    public static boolean isDictionaryStoreEnabled() {
+        return dictionaryStoreEnabled;
+    }
+
+    public static double getDictionaryStoreTtlHours() {
+        return dictionaryStoreTtlHours;
+    }
+
+    public static int getDictionaryCapacity() {
+        return dictionaryCapacity;
+    }
+
+    public static EvictionPolicy getDictionaryEviction() {
+        return dictionaryEviction;
+    }
+
+    public static int getSuiteThreads() {
+        return suiteThreads;
+    }
+
+    public static int getSuiteMaxConcurrentRequestsPerServer() {
+        return suiteMaxConcurrentRequestsPerServer;
+    }
+
+    public static double getSuiteRateLimit() {
+        return suiteRateLimit;
+    }
+
+    public static double getSuiteRateLimitPerServer() {
+        return suiteRateLimitPerServer;
+    }
+
+    public static HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    public static int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    public static int getKeepAliveSeconds() {
+        return keepAliveSeconds;
+    }
+
+    public static boolean isSuitePooledConnections() {
+        return suitePooledConnections;
+    }
+
+    public static RunLog.Level getLogLevel() {
+        return logLevel;
+    }
+
+    public static int getLogQueueCapacity() {
+        return logQueueCapacity;
+    }
+
+    /**
+     * @return seed of the random generators, null if not set.
+     */
+    public static Long getSeed() {
+        return seed;
+    }
+
+    public static void setSeed(Long seed) {
+        Configuration.seed = seed;
+    }
+
     public static void setLocale(String locale) {
         Configuration.locale = locale;
     }
@@ -3,23 +3,29 @@ package io.testrest;
 import io.testrest.core.dictionary.DictionaryEntry;
 import io.testrest.datatype.parameter.NormalizedParameterName;
 import io.testrest.core.dictionary.Dictionary;
+import io.testrest.core.dictionary.DictionaryStore;
 import io.testrest.helper.ExtendedRandom;
 
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.Random;
 
 public class Environment {
 
     private static Configuration configuration;
     private static Environment instance = null;
     private ExtendedRandom random;
+    // Stream of the operation or mutant being generated by each thread
+    private final ThreadLocal<ExtendedRandom> threadRandom = new ThreadLocal<>();
     private Dictionary globalDictionary;
+    private DictionaryStore dictionaryStore;
 
     public Environment(String configPath) {
         configuration = new Configuration(configPath);
         NormalizedParameterName.setQualifiableNames(configuration.getQualifiableNames());
-        this.globalDictionary = new Dictionary();
-        this.random = new ExtendedRandom();
+        // Drawn seeds fit in 53 bits, so that they can be written back to the configuration as JSON numbers
+        this.random = new ExtendedRandom(Configuration.getSeed() != null ? Configuration.getSeed() : new Random().nextLong() >>> 11);
+        this.globalDictionary = new Dictionary(Configuration.getDictionaryCapacity(), Configuration.getDictionaryEviction(), this::getRandom);
 
         // Add values from default dictionary to global dictionary
         if (configuration.getConfigMap().containsKey("default_dictionary")) {
@@ -34,6 +40,12 @@ public class Environment {
             }
         }
 
+        // Values of previous runs are loaded lazily, when a parameter needs them
+        if (Configuration.isDictionaryStoreEnabled()) {
+            dictionaryStore = DictionaryStore.of(Configuration.getOpenApiSpecPath(), configuration.getOutputPath() + "/.dictionaries",
+                    (long) (Configuration.getDictionaryStoreTtlHours() * 3_600_000));
+        }
+
         instance = this;
     }
 
@@ -48,6 +60,17 @@ public class Environment {
         return globalDictionary;
     }
 
+    /**
+     * @return the store of the Dictionary values of previous runs, null if disabled.
+     */
+    public DictionaryStore getDictionaryStore() {
+        return dictionaryStore;
+    }
+
+    public void setDictionaryStore(DictionaryStore dictionaryStore) {
+        this.dictionaryStore = dictionaryStore;
+    }
+
     public static Configuration getConfiguration() {
         return configuration;
     }
@@ -60,7 +83,18 @@ public class Environment {
         Environment.instance = instance;
     }
 
+    /**
+     * @return the stream of the calling thread if it has one, else the root generator.
+     */
     public ExtendedRandom getRandom() {
+        ExtendedRandom stream = threadRandom.get();
+        return stream != null ? stream : random;
+    }
+
+    /**
+     * @return the root generator, seeded from the configuration, from which the streams are split.
+     */
+    public ExtendedRandom getRootRandom() {
         return random;
     }
 
@@ -68,6 +102,18 @@ public class Environment {
         this.random = random;
     }
 
+    /**
+     * Makes the calling thread draw from a stream, until it is cleared.
+     * @param stream the stream, null to draw from the root generator again.
+     */
+    public void setThreadRandom(ExtendedRandom stream) {
+        if (stream == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(stream);
+        }
+    }
+
     public void setGlobalDictionary(Dictionary globalDictionary) {
         this.globalDictionary = globalDictionary;
     }
@@ -1,18 +1,26 @@
 package io.testrest;
 
+import io.testrest.core.dictionary.Dictionary;
+import io.testrest.core.metrics.Metrics;
+import io.testrest.core.metrics.Phase;
 import io.testrest.datatype.graph.OperationNodeList;
 import io.testrest.datatype.graph.OperationDependencyGraph;
 import io.testrest.core.testGenerator.ErrorTestGenerator;
 import io.testrest.datatype.graph.GraphBuilder;
+import io.testrest.core.valueProvider.single.RegexParameterValueProvider;
+import io.testrest.datatype.parameter.NormalizedParameterName;
 import io.testrest.core.testGenerator.NominalTestGenerator;
+import io.testrest.core.testGenerator.SessionCheckpoint;
 import io.testrest.parser.OpenAPIParser;
+import io.testrest.core.testing.ConnectionPools;
 import io.testrest.core.testing.TestRunner;
 import io.testrest.core.testing.TestSequence;
+import io.testrest.helper.RunLog;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -30,22 +38,40 @@ public class Main {
 
     private static OperationDependencyGraph ODG;
 
+    /**
+     * Generates and runs the tests.
+     * @param args path to the configuration file, optionally followed by --resume and the name of an interrupted
+     *             testing session to continue.
+     */
     public static void main(String[] args) {
+        String configPath = "src/main/resources/test_config.json";
+        String resumedSession = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--resume") && i + 1 < args.length)
+                resumedSession = args[++i];
+            else
+                configPath = args[i];
+        }
 
-        if (args.length > 0)
-            environment = new Environment(args[0]);
-        else
-            environment = new Environment("src/main/resources/test_config.json");
-
+        environment = new Environment(configPath);
         configuration = Environment.getConfiguration();
+        if (resumedSession != null)
+            configuration.setTestingSessionName(resumedSession);
         String openApiSpecPath = Configuration.getOpenApiSpecPath();
         TestRunner testRunner = new TestRunner();
+        RunLog.setLevel(Configuration.getLogLevel());
 
+        Metrics.reset();
         logger.info("Reading OpenAPI Specification.");
         try {
             operationList = new OperationNodeList();
+            long start = System.nanoTime();
             OpenAPIParser.readOAS(openApiSpecPath, operationList);
+            Metrics.record(Phase.PARSE, null, System.nanoTime() - start);
             logger.info("Successfully read the OpenAPI Specification. Starting building Operation Dependency Graph.");
+            openRunLog();
+            logReport("Random seed: " + environment.getRootRandom().getSeed());
         } catch (Exception e) {
             logger.warning(e.toString());
             e.printStackTrace();
@@ -54,18 +80,34 @@ public class Main {
 
         try {
             ODG = new OperationDependencyGraph();
+            long start = System.nanoTime();
             GraphBuilder.buildGraph(ODG);
+            Metrics.record(Phase.GRAPH_BUILD, null, System.nanoTime() - start);
             logger.info("Successfully built the Operation Dependency Graph. Starting generating nominal testcases.");
         } catch (Exception e) {
             logger.warning(e.toString());
             e.printStackTrace();
         }
 
+        ConnectionPools.register(OpenAPIParser.getUrls());
         NominalTestGenerator nominalTestGenerator = new NominalTestGenerator(OpenAPIParser.getUrls());
+        SessionCheckpoint checkpoint = openCheckpoint(resumedSession != null);
+        nominalTestGenerator.setCheckpoint(checkpoint);
         TestSequence nominalTestSequence = nominalTestGenerator.generateTest(ODG);
+        closeCheckpoint(checkpoint);
+        if (environment.getDictionaryStore() != null) {
+            environment.getDictionaryStore().save(environment.getGlobalDictionary());
+            logReport("Dictionary store: " + environment.getDictionaryStore().size() + " names at " + environment.getDictionaryStore().getPath());
+        }
         List<String> allTestPaths = new ArrayList<>(nominalTestGenerator.getNominalTestPaths());
         logger.info("Nominal test cases are located at " + nominalTestGenerator.getTestOutPutPath());
         logReport("Operation coverage: " + nominalTestSequence.operationCoverage());
+        logReport("Normalized name cache: " + NormalizedParameterName.getNormalizedNameCache());
+        logReport("Stem cache: " + NormalizedParameterName.getStemCache());
+        logReport("Regex generator cache: " + RegexParameterValueProvider.getGenerators());
+        Dictionary dictionary = environment.getGlobalDictionary();
+        logReport("Dictionary: " + dictionary.size() + " values, " + dictionary.getPinnedCount() + " pinned, "
+                + dictionary.getEvictions() + " evicted, " + dictionary.getRejections() + " rejected");
 
         if (!nominalTestSequence.isEmpty()) {
             logger.info("Starting generating error testcases.");
@@ -78,24 +120,70 @@ public class Main {
             }
         }
 
+        Metrics.export(Paths.get(configuration.getOutputPath()));
+        logReport("Metrics: " + Paths.get(configuration.getOutputPath(), Metrics.JSON_FILE) + ", "
+                + Metrics.CSV_FILE + ", " + Metrics.PROMETHEUS_FILE);
+
         logger.info("Running test cases");
         testRunner.testAll(allTestPaths);
+        ConnectionPools.getStats().forEach((server, stats) -> logReport("Connections to " + server + ": " + stats));
+        if (RunLog.getDropped() > 0)
+            logReport("Run log: " + RunLog.getDropped() + " debug records dropped");
+        RunLog.close();
         testRunner.showReport();
 
 
     }
 
+    /**
+     * Opens the checkpoint of the testing session, in its output directory.
+     * @param resume true if the session continues an interrupted one.
+     * @return the checkpoint, null if checkpoints are disabled or the checkpoint cannot be opened.
+     */
+    private static SessionCheckpoint openCheckpoint(boolean resume) {
+        if (!resume && !Configuration.isCheckpointEnabled())
+            return null;
+
+        try {
+            SessionCheckpoint checkpoint = new SessionCheckpoint(Paths.get(configuration.getOutputPath(), SessionCheckpoint.FILE_NAME));
+            if (resume && !checkpoint.hasRecords())
+                logger.warning("No checkpoint found for session " + configuration.getTestingSessionName() + ", starting it from scratch.");
+            logger.info("Checkpointing the session to " + checkpoint.getPath() + ", resume it with --resume " + configuration.getTestingSessionName());
+            return checkpoint;
+        } catch (IOException e) {
+            logger.warning("Unable to open checkpoint, the session cannot be resumed.\n" + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeCheckpoint(SessionCheckpoint checkpoint) {
+        if (checkpoint == null)
+            return;
+
+        try {
+            checkpoint.close();
+        } catch (IOException e) {
+            logger.warning("Unable to close checkpoint" + '\n' + e.getMessage());
+        }
+    }
+
     public static Configuration getConfiguration() {
         return configuration;
     }
 
     public static void logReport(String info) {
+        RunLog.report(info);
+    }
+
+    /**
+     * Writes the run log to the output directory of the session, which is known once the specification is read.
+     */
+    private static void openRunLog() {
         try {
-            FileWriter myWriter = new FileWriter(configuration.getOutputPath() + "/cov.txt", true);
-            myWriter.write(info.concat("\n"));
-            myWriter.close();
+            RunLog.open(Paths.get(configuration.getOutputPath()), Configuration.getLogQueueCapacity());
+            Runtime.getRuntime().addShutdownHook(new Thread(RunLog::close));
         } catch (IOException e) {
-            logger.warning("Unable to report coverage data" + '\n' + e.getMessage());
+            logger.warning("Unable to open the run log in " + configuration.getOutputPath() + "\n" + e.getMessage());
         }
     }
 
@@ -103,8 +191,20 @@ public class Main {
         return operationList;
     }
 
+    public static void setOperationList(OperationNodeList operationList) {
+        Main.operationList = operationList;
+    }
+
     public static Environment getEnvironment() {
         return environment;
     }
 
+    /**
+     * Sets the environment, for using the components without running main (e.g. benchmarks).
+     */
+    public static void setEnvironment(Environment environment) {
+        Main.environment = environment;
+        Main.configuration = Environment.getConfiguration();
+    }
+
 }
\ No newline at end of file
@@ -1,62 +1,379 @@
 package io.testrest.core.dictionary;
 
-import io.testrest.datatype.graph.OperationNode;
 import io.testrest.datatype.parameter.NormalizedParameterName;
 import io.testrest.datatype.parameter.ParameterName;
 import io.testrest.datatype.parameter.ParameterType;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Dictionary that stores parameter values to be reused. Values are loaded from a default dictionary (file) and taken
  * from output data observed during testing. Each value is associated to a source that tells where that particular
- * value was observed
+ * value was observed. The dictionary is shared by operations tested concurrently, so all accesses are synchronized.
+ * Entries are indexed by (normalized name, type), (name, type) and value length, lookups return them in insertion order.
+ * The number of entries of each normalized name can be bounded: when a name is full, an entry is evicted according
+ * to the eviction policy. Pinned entries, the values of successful tests, are never evicted.
  */
 public class Dictionary {
 
-    private final List<DictionaryEntry> dictionary = new LinkedList<>();
+    // Insertion number of each entry, used to merge typed and untyped entries in a stable order
+    private final Map<DictionaryEntry, Long> insertionOrder = new IdentityHashMap<>();
+    private final NavigableMap<Long, DictionaryEntry> entriesByInsertion = new TreeMap<>();
+    private long insertions = 0;
+    // Number of entries inserted for each (normalized name, type), including evicted ones
+    private final Map<IndexKey, Long> insertionsByNormalizedName = new HashMap<>();
+
+    private final Map<IndexKey, DictionaryEntry> entriesByContent = new HashMap<>();
+    private final Map<IndexKey, Set<DictionaryEntry>> entriesByNormalizedName = new HashMap<>();
+    private final Map<IndexKey, Set<DictionaryEntry>> entriesByName = new HashMap<>();
+    private final Map<Integer, Set<DictionaryEntry>> entriesByValueLength = new HashMap<>();
+
+    // Eviction state: entries of each normalized name whatever their type, observations of each entry,
+    // values offered for each normalized name (for reservoir sampling)
+    private final int capacityPerName;
+    private final EvictionPolicy evictionPolicy;
+    private final Supplier<? extends Random> random;
+    private final Map<NormalizedParameterName, Set<DictionaryEntry>> entriesByNormalizedNameOnly = new HashMap<>();
+    private final Map<DictionaryEntry, Integer> observations = new IdentityHashMap<>();
+    private final Set<DictionaryEntry> pinnedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<NormalizedParameterName, Long> offers = new HashMap<>();
+    private long evictions = 0;
+    private long rejections = 0;
+
+    /**
+     * Creates an unbounded dictionary.
+     */
+    public Dictionary() {
+        this(0, EvictionPolicy.LRU, new Random());
+    }
+
+    /**
+     * @param capacityPerName maximum number of entries of a normalized name, 0 for no limit. Pinned entries can
+     *                        exceed it.
+     * @param evictionPolicy how the entry to evict is chosen.
+     * @param random source of randomness of reservoir sampling.
+     */
+    public Dictionary(int capacityPerName, EvictionPolicy evictionPolicy, Random random) {
+        this(capacityPerName, evictionPolicy, () -> random);
+    }
+
+    /**
+     * @param capacityPerName maximum number of entries of a normalized name, 0 for no limit. Pinned entries can
+     *                        exceed it.
+     * @param evictionPolicy how the entry to evict is chosen.
+     * @param random gives the source of randomness of reservoir sampling for the calling thread.
+     */
+    public Dictionary(int capacityPerName, EvictionPolicy evictionPolicy, Supplier<? extends Random> random) {
+        this.capacityPerName = capacityPerName;
+        this.evictionPolicy = evictionPolicy;
+        this.random = random;
+    }
 
     /**
      * Add an entry to the dictionary. If a similar entry already exists, it just updates the discovery time.
      * @param dictionaryEntry the entry to add.
      */
-    public void addEntry(DictionaryEntry dictionaryEntry) {
+    public synchronized void addEntry(DictionaryEntry dictionaryEntry) {
+        store(dictionaryEntry, false);
+    }
+
+    /**
+     * Add an entry to the dictionary and pins it, or pins the similar entry that already exists. Pinned entries
+     * are never evicted.
+     * @param dictionaryEntry the entry to add.
+     */
+    public synchronized void addPinnedEntry(DictionaryEntry dictionaryEntry) {
+        store(dictionaryEntry, true);
+    }
+
+    /**
+     * Add an entry to the dictionary, unless a similar entry already exists.
+     * @param dictionaryEntry the entry to add.
+     * @return true if the entry has been added.
+     */
+    public synchronized boolean addEntryIfAbsent(DictionaryEntry dictionaryEntry) {
+        if (findMatchingEntry(dictionaryEntry) != null) {
+            return false;
+        }
+        return store(dictionaryEntry, false) == dictionaryEntry;
+    }
+
+    /**
+     * @return the stored entry, null if the entry has been rejected.
+     */
+    private DictionaryEntry store(DictionaryEntry dictionaryEntry, boolean pin) {
+        DictionaryEntry matchingEntry = findMatchingEntry(dictionaryEntry);
+
+        // If there is a similar entry, update it with new discovery time
+        if (matchingEntry != null) {
+            matchingEntry.setDiscoveryTime(dictionaryEntry.getDiscoveryTime());
+            matchingEntry.setSource(dictionaryEntry.getSource());
+            observations.merge(matchingEntry, 1, Integer::sum);
+            if (pin) {
+                pinnedEntries.add(matchingEntry);
+            }
+            return matchingEntry;
+        }
+
+        // Otherwise, add entry to dictionary if there is room for it
+        if (!makeRoomFor(dictionaryEntry, pin)) {
+            rejections++;
+            return null;
+        }
+        insert(dictionaryEntry);
+        if (pin) {
+            pinnedEntries.add(dictionaryEntry);
+        }
+        return dictionaryEntry;
+    }
+
+    /**
+     * Look for a similar entry, with the same type or without type.
+     */
+    private DictionaryEntry findMatchingEntry(DictionaryEntry dictionaryEntry) {
+        DictionaryEntry matchingEntry = entriesByContent.get(contentKey(dictionaryEntry, dictionaryEntry.getParameterType()));
+        if (matchingEntry == null && dictionaryEntry.getParameterType() != null) {
+            matchingEntry = entriesByContent.get(contentKey(dictionaryEntry, null));
+        }
+        return matchingEntry;
+    }
+
+    /**
+     * Evicts an entry of the normalized name of a new entry if the name is full.
+     * @return false if the new entry must be rejected.
+     */
+    private boolean makeRoomFor(DictionaryEntry dictionaryEntry, boolean pin) {
+        if (capacityPerName <= 0) {
+            return true;
+        }
+
+        NormalizedParameterName name = dictionaryEntry.getNormalizedParameterName();
+        long offered = offers.merge(name, 1L, Long::sum);
+        Set<DictionaryEntry> sameName = entriesByNormalizedNameOnly.getOrDefault(name, Set.of());
+        if (sameName.size() < capacityPerName) {
+            return true;
+        }
+
+        // Reservoir sampling keeps each offered value with the same probability
+        if (evictionPolicy == EvictionPolicy.RESERVOIR && !pin && random.get().nextDouble() * offered >= capacityPerName) {
+            return false;
+        }
+
+        DictionaryEntry victim = chooseVictim(sameName);
+        if (victim == null) {
+            // Only pinned entries: new pinned entries exceed the capacity
+            return pin;
+        }
+        remove(victim);
+        evictions++;
+        return true;
+    }
+
+    private DictionaryEntry chooseVictim(Set<DictionaryEntry> candidates) {
+        List<DictionaryEntry> unpinned = new ArrayList<>(candidates.size());
+        for (DictionaryEntry candidate : candidates) {
+            if (!pinnedEntries.contains(candidate)) {
+                unpinned.add(candidate);
+            }
+        }
+        if (unpinned.isEmpty()) {
+            return null;
+        }
+
+        switch (evictionPolicy) {
+            case RESERVOIR:
+                return unpinned.get(random.get().nextInt(unpinned.size()));
+            case FREQUENCY:
+                return Collections.min(unpinned, Comparator.comparingInt((DictionaryEntry e) -> observations.getOrDefault(e, 0))
+                        .thenComparing(this::lastObservation));
+            default:
+                // Least recently observed, candidates are in insertion order
+                return Collections.min(unpinned, Comparator.comparingLong(this::lastObservation));
+        }
+    }
+
+    private long lastObservation(DictionaryEntry dictionaryEntry) {
+        return dictionaryEntry.getDiscoveryTime() == null ? Long.MIN_VALUE : dictionaryEntry.getDiscoveryTime().getTime();
+    }
+
+    private void insert(DictionaryEntry dictionaryEntry) {
+        long insertion = insertions++;
+        insertionOrder.put(dictionaryEntry, insertion);
+        entriesByInsertion.put(insertion, dictionaryEntry);
+        insertionsByNormalizedName.merge(new IndexKey(dictionaryEntry.getNormalizedParameterName(), dictionaryEntry.getParameterType()), 1L, Long::sum);
+        entriesByContent.put(contentKey(dictionaryEntry, dictionaryEntry.getParameterType()), dictionaryEntry);
+        addToIndex(entriesByNormalizedName, new IndexKey(dictionaryEntry.getNormalizedParameterName(), dictionaryEntry.getParameterType()), dictionaryEntry);
+        addToIndex(entriesByName, new IndexKey(dictionaryEntry.getParameterName(), dictionaryEntry.getParameterType()), dictionaryEntry);
+        addToIndex(entriesByValueLength, dictionaryEntry.getValue().toString().length(), dictionaryEntry);
+        addToIndex(entriesByNormalizedNameOnly, dictionaryEntry.getNormalizedParameterName(), dictionaryEntry);
+    }
+
+    private void remove(DictionaryEntry dictionaryEntry) {
+        entriesByInsertion.remove(insertionOrder.remove(dictionaryEntry));
+        entriesByContent.remove(contentKey(dictionaryEntry, dictionaryEntry.getParameterType()));
+        removeFromIndex(entriesByNormalizedName, new IndexKey(dictionaryEntry.getNormalizedParameterName(), dictionaryEntry.getParameterType()), dictionaryEntry);
+        removeFromIndex(entriesByName, new IndexKey(dictionaryEntry.getParameterName(), dictionaryEntry.getParameterType()), dictionaryEntry);
+        removeFromIndex(entriesByValueLength, dictionaryEntry.getValue().toString().length(), dictionaryEntry);
+        removeFromIndex(entriesByNormalizedNameOnly, dictionaryEntry.getNormalizedParameterName(), dictionaryEntry);
+        observations.remove(dictionaryEntry);
+    }
+
+    /**
+     * @return entries with the given normalized name, having the given type or no type.
+     */
+    public synchronized List<DictionaryEntry> getEntriesByNormalizedParameterName(NormalizedParameterName normalizedParameterName,
+                                                                                 ParameterType parameterType) {
+        Set<DictionaryEntry> untyped = entriesByNormalizedName.getOrDefault(new IndexKey(normalizedParameterName, null), Set.of());
+        if (parameterType == null) {
+            return new ArrayList<>(untyped);
+        }
+
+        Set<DictionaryEntry> typed = entriesByNormalizedName.getOrDefault(new IndexKey(normalizedParameterName, parameterType), Set.of());
+        return mergeByInsertionOrder(typed, untyped);
+    }
+
+    /**
+     * @return entries with the given name and type.
+     */
+    public synchronized List<DictionaryEntry> getEntriesByParameterName(ParameterName parameterName, ParameterType parameterType) {
+        return new ArrayList<>(entriesByName.getOrDefault(new IndexKey(parameterName, parameterType), Set.of()));
+    }
+
+    public synchronized List<DictionaryEntry> getEntriesByValueLength(int length) {
+        return new ArrayList<>(entriesByValueLength.getOrDefault(length, Set.of()));
+    }
+
+    /**
+     * @return all entries, in insertion order.
+     */
+    public synchronized List<DictionaryEntry> getEntries() {
+        return new ArrayList<>(entriesByInsertion.values());
+    }
 
-        // Get list of similar entries
-        List<DictionaryEntry> matchingEntries = dictionary.stream()
-                .filter(entry -> entry.getParameterName().equals(dictionaryEntry.getParameterName()) &&
-                        entry.getNormalizedParameterName().equals(dictionaryEntry.getNormalizedParameterName()) &&
-                        entry.getValue().equals(dictionaryEntry.getValue()) &&
-                        (entry.getParameterType() == null || entry.getParameterType().equals(dictionaryEntry.getParameterType())))
-                .collect(Collectors.toList());
+    /**
+     * @param fromInsertion insertion number of the first entry, inclusive.
+     * @param toInsertion insertion number of the last entry, exclusive.
+     * @return entries inserted in the given range that are still in the dictionary, in insertion order.
+     */
+    public synchronized List<DictionaryEntry> getEntries(long fromInsertion, long toInsertion) {
+        return new ArrayList<>(entriesByInsertion.subMap(fromInsertion, toInsertion).values());
+    }
 
-        // If there are no similar entries, add entry to dictionary
-        if (matchingEntries.size() == 0) {
-            dictionary.add(dictionaryEntry);
+    /**
+     * @return number of entries inserted so far, including evicted ones. It is the insertion number of the next entry.
+     */
+    public synchronized long getInsertions() {
+        return insertions;
+    }
+
+    /**
+     * Unlike the number of entries of a name, which stops growing once the name is full, this number grows with
+     * every new value.
+     * @return number of entries inserted so far with the given normalized name, having the given type or no type,
+     * including evicted ones.
+     */
+    public synchronized long getInsertions(NormalizedParameterName normalizedParameterName, ParameterType parameterType) {
+        long untyped = insertionsByNormalizedName.getOrDefault(new IndexKey(normalizedParameterName, null), 0L);
+        if (parameterType == null) {
+            return untyped;
         }
+        return untyped + insertionsByNormalizedName.getOrDefault(new IndexKey(normalizedParameterName, parameterType), 0L);
+    }
+
+    /**
+     * @return number of entries in the dictionary.
+     */
+    public synchronized int size() {
+        return insertionOrder.size();
+    }
+
+    /**
+     * @return number of entries evicted to make room for new ones.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return number of new entries that were not added because their normalized name was full.
+     */
+    public synchronized long getRejections() {
+        return rejections;
+    }
+
+    /**
+     * @return number of pinned entries.
+     */
+    public synchronized int getPinnedCount() {
+        return pinnedEntries.size();
+    }
 
-        // Otherwise, update similar entry with new discovery time
-        else {
-            matchingEntries.get(0).setDiscoveryTime(dictionaryEntry.getDiscoveryTime());
-            matchingEntries.get(0).setSource(dictionaryEntry.getSource());
+    public synchronized boolean isPinned(DictionaryEntry dictionaryEntry) {
+        return pinnedEntries.contains(dictionaryEntry);
+    }
+
+    private List<DictionaryEntry> mergeByInsertionOrder(Collection<DictionaryEntry> first, Collection<DictionaryEntry> second) {
+        List<DictionaryEntry> merged = new ArrayList<>(first.size() + second.size());
+        Iterator<DictionaryEntry> i = first.iterator(), j = second.iterator();
+        DictionaryEntry a = i.hasNext() ? i.next() : null, b = j.hasNext() ? j.next() : null;
+        while (a != null && b != null) {
+            if (insertionOrder.get(a) < insertionOrder.get(b)) {
+                merged.add(a);
+                a = i.hasNext() ? i.next() : null;
+            } else {
+                merged.add(b);
+                b = j.hasNext() ? j.next() : null;
+            }
+        }
+        for (; a != null; a = i.hasNext() ? i.next() : null) {
+            merged.add(a);
+        }
+        for (; b != null; b = j.hasNext() ? j.next() : null) {
+            merged.add(b);
         }
+        return merged;
     }
 
-    public List<DictionaryEntry> getEntriesByNormalizedParameterName(NormalizedParameterName normalizedParameterName,
-                                                                     ParameterType parameterType) {
-        return dictionary.stream().filter(e -> e.getNormalizedParameterName().equals(normalizedParameterName) && (
-                e.getParameterType() == null || e.getParameterType().equals(parameterType))).collect(Collectors.toList());
+    // Entries are compared by identity, linked sets keep them in insertion order
+    private static <K> void addToIndex(Map<K, Set<DictionaryEntry>> index, K key, DictionaryEntry dictionaryEntry) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(dictionaryEntry);
     }
 
-    public List<DictionaryEntry> getEntriesByParameterName(ParameterName parameterName, ParameterType parameterType) {
-        return dictionary.stream().filter(e -> e.getParameterName().equals(parameterName) &&
-                e.getParameterType().equals(parameterType)).collect(Collectors.toList());
+    private static <K> void removeFromIndex(Map<K, Set<DictionaryEntry>> index, K key, DictionaryEntry dictionaryEntry) {
+        Set<DictionaryEntry> entries = index.get(key);
+        if (entries != null && entries.remove(dictionaryEntry) && entries.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static IndexKey contentKey(DictionaryEntry dictionaryEntry, ParameterType parameterType) {
+        return new IndexKey(dictionaryEntry.getParameterName(), dictionaryEntry.getNormalizedParameterName(),
+                dictionaryEntry.getValue(), parameterType);
     }
 
-    public List<DictionaryEntry> getEntriesByValueLength(int length) {
-        return dictionary.stream().filter(e -> e.getValue().toString().length() == length).collect(Collectors.toList());
+    /**
+     * Composite key of an index, components can be null.
+     */
+    private static final class IndexKey {
+        private final Object[] components;
+        private final int hash;
+
+        IndexKey(Object... components) {
+            this.components = components;
+            this.hash = Arrays.hashCode(components);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return Arrays.equals(components, ((IndexKey) o).components);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
@@ -101,6 +101,36 @@ public class DictionaryEntry {
         this.value = value;
     }
 
+    /**
+     * @return the name of the class of a value, from which {@link #parseValue(String, String)} reads it back.
+     */
+    public static String getValueClass(Object value) {
+        return value.getClass().getSimpleName();
+    }
+
+    /**
+     * Reads back a value stored as text.
+     * @param value the text of the value.
+     * @param valueClass the name of its class, see {@link #getValueClass(Object)}.
+     * @return the value, as a string if its class is not a number or a boolean.
+     */
+    public static Object parseValue(String value, String valueClass) {
+        switch (valueClass == null ? "" : valueClass) {
+            case "Integer":
+                return Integer.valueOf(value);
+            case "Long":
+                return Long.valueOf(value);
+            case "Double":
+                return Double.valueOf(value);
+            case "Float":
+                return Float.valueOf(value);
+            case "Boolean":
+                return Boolean.valueOf(value);
+            default:
+                return value;
+        }
+    }
+
     @Override
     public String toString() {
         return "[" + normalizedParameterName + " : " + value + "]";
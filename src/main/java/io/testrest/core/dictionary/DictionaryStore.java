@@ -0,0 +1,279 @@
+package io.testrest.core.dictionary;
+
+import io.testrest.datatype.parameter.NormalizedParameterName;
+import io.testrest.datatype.parameter.ParameterType;
+import io.testrest.helper.Digests;
+import io.testrest.helper.FileHelper;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * On-disk store of the Dictionary values observed in previous runs on the same specification, named after the
+ * SHA-256 hash of the specification file. The values are grouped by normalized parameter name behind an index, and
+ * the file is memory-mapped, so that the values of a name are only read when a parameter with that name first needs
+ * a value. Values that have not been observed for longer than the time-to-live are dropped.
+ */
+public class DictionaryStore {
+    private static final Logger logger = Logger.getLogger(DictionaryStore.class.getName());
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x47544444;
+
+    private final Path path;
+    private final long ttlMillis;
+
+    private ByteBuffer buffer;
+    // Position and number of the records of each normalized name
+    private final Map<String, int[]> index = new HashMap<>();
+    private final Set<String> loadedNames = Collections.synchronizedSet(new HashSet<>());
+
+    /**
+     * @param path path to the store.
+     * @param ttlMillis time-to-live of the values since they were last observed, 0 to keep them forever.
+     */
+    public DictionaryStore(Path path, long ttlMillis) {
+        this.path = path;
+        this.ttlMillis = ttlMillis;
+        open();
+    }
+
+    /**
+     * @param openApiSpecPath path to the specification.
+     * @param storeDirectory directory of the stores.
+     * @param ttlMillis time-to-live of the values since they were last observed, 0 to keep them forever.
+     * @return the store of the specification, null if the specification is not a readable local file.
+     */
+    public static DictionaryStore of(String openApiSpecPath, String storeDirectory, long ttlMillis) {
+        Path specPath;
+        try {
+            specPath = Paths.get(openApiSpecPath);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (!Files.isRegularFile(specPath)) {
+            return null;
+        }
+
+        try {
+            return new DictionaryStore(Paths.get(storeDirectory, Digests.sha256(Files.readAllBytes(specPath)) + ".dictionary"), ttlMillis);
+        } catch (IOException e) {
+            logger.warning("Unable to hash specification " + openApiSpecPath + "\n" + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Maps the store and reads its index.
+     */
+    private void open() {
+        index.clear();
+        buffer = null;
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION) {
+                logger.warning("Ignoring dictionary store " + path + " written by another version.");
+                return;
+            }
+
+            int names = mapped.getInt();
+            for (int i = 0; i < names; i++) {
+                index.put(readString(mapped), new int[]{mapped.getInt(), mapped.getInt()});
+            }
+            buffer = mapped;
+        } catch (IOException | RuntimeException e) {
+            index.clear();
+            logger.warning("Unable to read dictionary store " + path + "\n" + e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return number of normalized names having stored values.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Adds the stored values of a normalized name to the Dictionary, the first time the name is asked for.
+     * Values already in the Dictionary are left unchanged.
+     * @param normalizedName the normalized name.
+     * @param dictionary the Dictionary.
+     * @return number of added values.
+     */
+    public int load(NormalizedParameterName normalizedName, Dictionary dictionary) {
+        if (normalizedName == null || loadedNames.contains(normalizedName.toString())) {
+            return 0;
+        }
+
+        List<DictionaryEntry> entries;
+        synchronized (this) {
+            if (!loadedNames.add(normalizedName.toString())) {
+                return 0;
+            }
+            entries = read(normalizedName.toString());
+        }
+
+        int added = 0;
+        for (DictionaryEntry entry : entries) {
+            if (dictionary.addEntryIfAbsent(entry)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Reads the unexpired values of a normalized name.
+     */
+    private List<DictionaryEntry> read(String normalizedName) {
+        int[] position = index.get(normalizedName);
+        if (buffer == null || position == null) {
+            return List.of();
+        }
+
+        List<DictionaryEntry> entries = new ArrayList<>(position[1]);
+        ByteBuffer records = buffer.duplicate();
+        records.position(position[0]);
+        long now = System.currentTimeMillis();
+
+        try {
+            for (int i = 0; i < position[1]; i++) {
+                String parameterName = readString(records);
+                String type = readString(records);
+                String valueClass = readString(records);
+                String value = readString(records);
+                long lastSeen = records.getLong();
+
+                if (ttlMillis > 0 && now - lastSeen > ttlMillis) {
+                    continue;
+                }
+
+                DictionaryEntry entry = new DictionaryEntry(parameterName, DictionaryEntry.parseValue(value, valueClass));
+                entry.setNormalizedParameterName(NormalizedParameterName.fromNormalizedName(normalizedName));
+                entry.setParameterType(type.isEmpty() ? null : ParameterType.valueOf(type));
+                entry.setDiscoveryTime(new Timestamp(lastSeen));
+                entries.add(entry);
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Unable to read values of " + normalizedName + " from dictionary store " + path + "\n" + e);
+        }
+        return entries;
+    }
+
+    /**
+     * Merges the values of the Dictionary with the stored ones, drops the expired values, and writes the store to a
+     * temporary file, then moves it to its path.
+     * @param dictionary the Dictionary.
+     */
+    public synchronized void save(Dictionary dictionary) {
+        long now = System.currentTimeMillis();
+
+        // Latest observation of each value, by normalized name
+        Map<String, Map<List<String>, Long>> values = new TreeMap<>();
+        for (String normalizedName : index.keySet()) {
+            for (DictionaryEntry entry : read(normalizedName)) {
+                merge(values, entry);
+            }
+        }
+        for (DictionaryEntry entry : dictionary.getEntries()) {
+            if (entry.getValue() != null && entry.getNormalizedParameterName() != null) {
+                merge(values, entry);
+            }
+        }
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    write(out, values, now);
+                }
+                FileHelper.replace(temp, path);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to write dictionary store " + path + "\n" + e.getMessage());
+        }
+
+        open();
+    }
+
+    private void merge(Map<String, Map<List<String>, Long>> values, DictionaryEntry entry) {
+        List<String> key = List.of(entry.getParameterName().toString(),
+                entry.getParameterType() == null ? "" : entry.getParameterType().name(),
+                DictionaryEntry.getValueClass(entry.getValue()), entry.getValue().toString());
+        long lastSeen = entry.getDiscoveryTime() == null ? System.currentTimeMillis() : entry.getDiscoveryTime().getTime();
+        values.computeIfAbsent(entry.getNormalizedParameterName().toString(), name -> new LinkedHashMap<>())
+                .merge(key, lastSeen, Math::max);
+    }
+
+    private void write(DataOutputStream out, Map<String, Map<List<String>, Long>> values, long now) throws IOException {
+        // Records first, to know where the records of each name start
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        Map<String, int[]> positions = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Map<List<String>, Long>> name : values.entrySet()) {
+            int start = records.size();
+            int count = 0;
+            for (Map.Entry<List<String>, Long> value : name.getValue().entrySet()) {
+                if (ttlMillis > 0 && now - value.getValue() > ttlMillis) {
+                    continue;
+                }
+                for (String field : value.getKey()) {
+                    writeString(records, field);
+                }
+                records.writeLong(value.getValue());
+                count++;
+            }
+            if (count > 0) {
+                positions.put(name.getKey(), new int[]{start, count});
+            }
+        }
+
+        // Positions are absolute, after the index
+        int headerSize = 3 * Integer.BYTES;
+        for (String name : positions.keySet()) {
+            headerSize += 3 * Integer.BYTES + name.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(positions.size());
+        for (Map.Entry<String, int[]> position : positions.entrySet()) {
+            writeString(out, position.getKey());
+            out.writeInt(headerSize + position.getValue()[0]);
+            out.writeInt(position.getValue()[1]);
+        }
+        recordBytes.writeTo(out);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
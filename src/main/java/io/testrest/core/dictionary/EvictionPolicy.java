@@ -0,0 +1,13 @@
+package io.testrest.core.dictionary;
+
+/**
+ * How the Dictionary chooses the entry to evict when a normalized name is full.
+ */
+public enum EvictionPolicy {
+    // Evict the entry observed least recently (oldest discovery time)
+    LRU,
+    // Keep a uniform random sample of the values observed for the name
+    RESERVOIR,
+    // Evict the entry observed the fewest times, the least recently observed one among them
+    FREQUENCY
+}
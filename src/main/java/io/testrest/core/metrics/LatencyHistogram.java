@@ -0,0 +1,102 @@
+package io.testrest.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of latencies in nanoseconds, with buckets of logarithmic width: each power of two is split
+ * into SUB_BUCKETS linear buckets, so that a recorded value is known within 1/SUB_BUCKETS of itself whatever its
+ * magnitude, in a fixed and small number of counters.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values above 2^42 ns (more than an hour) are counted in the last bucket
+    private static final int MAX_EXPONENT = 42;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(MAX_VALUE) + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+    }
+
+    /**
+     * @param nanos recorded latency, negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(Math.min(value, MAX_VALUE)));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return sum of the recorded latencies, in nanoseconds.
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * @return largest recorded latency, in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean of the recorded latencies, in nanoseconds, 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : (double) sum.get() / recorded;
+    }
+
+    /**
+     * @param quantile the quantile, between 0 and 1.
+     * @return upper bound of the bucket holding the quantile, in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getValueAtQuantile(double quantile) {
+        long recorded = count.get();
+        if (recorded == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * recorded));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int group = index / SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (group - 1);
+        return lowerBound + (1L << (group - 1)) - 1;
+    }
+}
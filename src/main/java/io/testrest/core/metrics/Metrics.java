@@ -0,0 +1,221 @@
+package io.testrest.core.metrics;
+
+import com.google.gson.GsonBuilder;
+import io.testrest.datatype.graph.OperationNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Counters and latency histograms of the testing session, for each phase and for each operation within a phase.
+ * Exported to metrics.json, metrics.csv, and metrics.prom in the Prometheus text format.
+ */
+public class Metrics {
+    private static final Logger logger = Logger.getLogger(Metrics.class.getName());
+
+    public static final String JSON_FILE = "metrics.json";
+    public static final String CSV_FILE = "metrics.csv";
+    public static final String PROMETHEUS_FILE = "metrics.prom";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private static final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    // Histograms of each operation, by phase then by operationId
+    private static final Map<Phase, Map<String, LatencyHistogram>> operations = new EnumMap<>(Phase.class);
+    // Counters of each operation, by counter name then by operationId
+    private static final Map<String, Map<String, AtomicLong>> counters = new ConcurrentSkipListMap<>();
+    private static volatile long startNanos;
+
+    static {
+        reset();
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Clears all metrics and restarts the clock of the session.
+     */
+    public static synchronized void reset() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+            operations.put(phase, new ConcurrentHashMap<>());
+        }
+        counters.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the time spent in a phase.
+     * @param phase the phase.
+     * @param operation the operation the time was spent on, null if it is not spent on one operation.
+     * @param nanos the time, in nanoseconds.
+     */
+    public static void record(Phase phase, OperationNode operation, long nanos) {
+        phases.get(phase).record(nanos);
+        if (operation != null) {
+            operations.get(phase).computeIfAbsent(operation.getOperationId(), id -> new LatencyHistogram()).record(nanos);
+        }
+    }
+
+    /**
+     * Increments a counter of an operation.
+     * @param counter name of the counter, in snake case.
+     * @param operation the operation.
+     */
+    public static void increment(String counter, OperationNode operation) {
+        counters.computeIfAbsent(counter, name -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(operation.getOperationId(), id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public static LatencyHistogram getHistogram(Phase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * @return histogram of an operation in a phase, null if nothing was recorded.
+     */
+    public static LatencyHistogram getHistogram(Phase phase, String operationId) {
+        return operations.get(phase).get(operationId);
+    }
+
+    /**
+     * @return value of a counter of an operation.
+     */
+    public static long getCounter(String counter, String operationId) {
+        AtomicLong value = counters.getOrDefault(counter, Map.of()).get(operationId);
+        return value == null ? 0 : value.get();
+    }
+
+    /**
+     * Writes the metrics to the JSON, CSV and Prometheus files in a directory.
+     * @param directory the directory.
+     */
+    public static void export(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE))) {
+                new GsonBuilder().setPrettyPrinting().create().toJson(toJson(), writer);
+            }
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(CSV_FILE))) {
+                writeCsv(writer);
+            }
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(PROMETHEUS_FILE))) {
+                writePrometheus(writer);
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to write metrics to " + directory + "\n" + e.getMessage());
+        }
+    }
+
+    private static double getElapsedSeconds() {
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+
+    private static Map<String, Object> toJson() {
+        double elapsed = getElapsedSeconds();
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("elapsedSeconds", elapsed);
+
+        Map<String, Object> phaseJson = new LinkedHashMap<>();
+        phases.forEach((phase, histogram) -> phaseJson.put(phase.label(), summarize(histogram, elapsed)));
+        json.put("phases", phaseJson);
+
+        Map<String, Map<String, Object>> operationJson = new ConcurrentSkipListMap<>();
+        operations.forEach((phase, histograms) -> histograms.forEach((operationId, histogram) ->
+                operationJson.computeIfAbsent(operationId, id -> new LinkedHashMap<>()).put(phase.label(), summarize(histogram, elapsed))));
+        counters.forEach((counter, values) -> values.forEach((operationId, value) ->
+                operationJson.computeIfAbsent(operationId, id -> new LinkedHashMap<>()).put(counter, value.get())));
+        json.put("operations", operationJson);
+        return json;
+    }
+
+    private static Map<String, Object> summarize(LatencyHistogram histogram, double elapsed) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getCount());
+        summary.put("perSecond", elapsed > 0 ? histogram.getCount() / elapsed : 0);
+        summary.put("totalMs", histogram.getSum() / 1e6);
+        summary.put("meanMs", histogram.getMean() / 1e6);
+        for (double quantile : QUANTILES) {
+            summary.put("p" + Math.round(quantile * 100) + "Ms", histogram.getValueAtQuantile(quantile) / 1e6);
+        }
+        summary.put("maxMs", histogram.getMax() / 1e6);
+        return summary;
+    }
+
+    private static void writeCsv(Writer writer) throws IOException {
+        writer.write("phase,operation,count,total_ms,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+        for (Phase phase : Phase.values()) {
+            writeCsvRow(writer, phase, "", phases.get(phase));
+            for (Map.Entry<String, LatencyHistogram> operation : new ConcurrentSkipListMap<>(operations.get(phase)).entrySet()) {
+                writeCsvRow(writer, phase, operation.getKey(), operation.getValue());
+            }
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, Phase phase, String operationId, LatencyHistogram histogram) throws IOException {
+        StringBuilder row = new StringBuilder().append(phase.label()).append(',').append(operationId)
+                .append(',').append(histogram.getCount())
+                .append(',').append(formatMillis(histogram.getSum()))
+                .append(',').append(formatMillis((long) histogram.getMean()));
+        for (double quantile : QUANTILES) {
+            row.append(',').append(formatMillis(histogram.getValueAtQuantile(quantile)));
+        }
+        writer.write(row.append(',').append(formatMillis(histogram.getMax())).append('\n').toString());
+    }
+
+    private static void writePrometheus(Writer writer) throws IOException {
+        writer.write("# HELP genoted_phase_seconds Time spent in each phase of the testing session.\n");
+        writer.write("# TYPE genoted_phase_seconds summary\n");
+        for (Map.Entry<Phase, LatencyHistogram> phase : phases.entrySet()) {
+            writeSummary(writer, "genoted_phase_seconds", "phase=\"" + phase.getKey().label() + "\"", phase.getValue());
+        }
+
+        writer.write("# HELP genoted_operation_seconds Time spent on each operation in each phase.\n");
+        writer.write("# TYPE genoted_operation_seconds summary\n");
+        for (Phase phase : Phase.values()) {
+            for (Map.Entry<String, LatencyHistogram> operation : new ConcurrentSkipListMap<>(operations.get(phase)).entrySet()) {
+                writeSummary(writer, "genoted_operation_seconds",
+                        "phase=\"" + phase.label() + "\",operation=\"" + escape(operation.getKey()) + "\"", operation.getValue());
+            }
+        }
+
+        for (Map.Entry<String, Map<String, AtomicLong>> counter : counters.entrySet()) {
+            String name = "genoted_" + counter.getKey() + "_total";
+            writer.write("# TYPE " + name + " counter\n");
+            for (Map.Entry<String, AtomicLong> value : counter.getValue().entrySet()) {
+                writer.write(name + "{operation=\"" + escape(value.getKey()) + "\"} " + value.getValue().get() + "\n");
+            }
+        }
+    }
+
+    private static void writeSummary(Writer writer, String name, String labels, LatencyHistogram histogram) throws IOException {
+        for (double quantile : QUANTILES) {
+            writer.write(name + "{" + labels + ",quantile=\"" + quantile + "\"} " + formatSeconds(histogram.getValueAtQuantile(quantile)) + "\n");
+        }
+        writer.write(name + "_sum{" + labels + "} " + formatSeconds(histogram.getSum()) + "\n");
+        writer.write(name + "_count{" + labels + "} " + histogram.getCount() + "\n");
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static String formatSeconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,20 @@
+package io.testrest.core.metrics;
+
+/**
+ * Phases of a testing session whose time is measured.
+ */
+public enum Phase {
+    PARSE,
+    GRAPH_BUILD,
+    VALUE_GENERATION,
+    REQUEST_EXECUTION,
+    ORACLE_ASSESSMENT,
+    FILE_WRITE;
+
+    /**
+     * @return name of the phase in exported metrics.
+     */
+    public String label() {
+        return name().toLowerCase();
+    }
+}
@@ -9,6 +9,7 @@ import io.testrest.helper.ExtendedRandom;
 import io.testrest.core.testing.TestInteraction;
 import io.testrest.core.valueProvider.ParameterValueProvider;
 import io.testrest.core.valueProvider.single.RandomParameterValueProvider;
+import io.testrest.helper.RunLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -47,7 +48,7 @@ public class ConstraintViolationMutator extends Mutator {
 
     @Override
     public void mutate(DictionaryEntry entry, TestInteraction interaction) {
-        System.out.println("Applying constraint violation mutation.");
+        RunLog.debug("mutation.apply", () -> "Applying constraint violation mutation.", "operation", interaction.getOperation().getOperationId());
 
         ParameterLeaf parameter = entry.getSource();
         DictionaryEntry newEntry = new DictionaryEntry(entry.getSource(), entry.getValue());
@@ -70,7 +71,7 @@ public class ConstraintViolationMutator extends Mutator {
             }
 
             interaction.removeInput(entry);
-            interaction.getRequestInputs().add(newEntry);
+            interaction.addRequestInput(newEntry);
 
         } else {
             logger.warning("The provided parameter cannot be mutated because it does not provide constraints to violate.");
@@ -3,6 +3,7 @@ package io.testrest.core.mutator;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.core.dictionary.DictionaryEntry;
 import io.testrest.core.testing.TestInteraction;
+import io.testrest.helper.RunLog;
 
 import java.util.logging.Logger;
 
@@ -26,7 +27,7 @@ public class MissingRequiredMutator extends Mutator {
     @Override
     public void mutate(DictionaryEntry entry, TestInteraction interaction) {
         if (isParameterMutable(entry.getSource())) {
-            System.out.println("Applying missing required mutation.");
+            RunLog.debug("mutation.apply", () -> "Applying missing required mutation.", "operation", interaction.getOperation().getOperationId());
             interaction.removeInput(entry);
             interaction.setMutateInfo("Missing Required Mutation. Missing parameter: " + entry.getSource().getName());
         } else {
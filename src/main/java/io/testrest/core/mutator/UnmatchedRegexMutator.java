@@ -4,9 +4,11 @@ import com.github.curiousoddman.rgxgen.RgxGen;
 import io.testrest.Main;
 import io.testrest.core.dictionary.DictionaryEntry;
 import io.testrest.core.testing.TestInteraction;
+import io.testrest.core.valueProvider.single.RegexParameterValueProvider;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.datatype.parameter.StringParameter;
 import io.testrest.helper.ExtendedRandom;
+import io.testrest.helper.RunLog;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -23,7 +25,7 @@ public class UnmatchedRegexMutator extends Mutator {
 
     @Override
     public void mutate(DictionaryEntry entry, TestInteraction interaction) {
-        System.out.println("Applying unmatched regex mutation.");
+        RunLog.debug("mutation.apply", () -> "Applying unmatched regex mutation.", "operation", interaction.getOperation().getOperationId());
 
         ExtendedRandom random = Main.getEnvironment().getRandom();
 
@@ -61,16 +63,14 @@ public class UnmatchedRegexMutator extends Mutator {
 
                 for (Map.Entry<String, Boolean> pair : map.entrySet()) {
                     // True means generate non-matching string
-                    System.out.println(pair.getKey());
-                    System.out.println(pair.getValue());
-                    RgxGen rgxGen = RgxGen.parse(pair.getKey());
-                    value += pair.getValue() ? rgxGen.generateNotMatching() : rgxGen.generate();
+                    RgxGen rgxGen = RegexParameterValueProvider.getGenerator(pair.getKey());
+                    value += pair.getValue() ? rgxGen.generateNotMatching(random) : rgxGen.generate(random);
                 }
             }
 
             interaction.removeInput(entry);
-            interaction.getRequestInputs().add(new DictionaryEntry(
-                    mutatedParameter, value.equals("") ? RgxGen.parse(pattern).generateNotMatching() : value));
+            interaction.addRequestInput(new DictionaryEntry(
+                    mutatedParameter, value.equals("") ? RegexParameterValueProvider.getGenerator(pattern).generateNotMatching(random) : value));
 
         } else {
             logger.warning("Could not apply mutation. This parameter is not of a mutable type.");
@@ -9,6 +9,7 @@ import io.testrest.core.dictionary.DictionaryEntry;
 import io.testrest.helper.ExtendedRandom;
 import io.testrest.core.testing.TestInteraction;
 import io.testrest.core.valueProvider.single.RandomParameterValueProvider;
+import io.testrest.helper.RunLog;
 
 import java.util.logging.Logger;
 
@@ -26,7 +27,7 @@ public class WrongTypeMutator extends Mutator {
 
     @Override
     public void mutate(DictionaryEntry entry, TestInteraction interaction) {
-        System.out.println("Applying wrong type mutation.");
+        RunLog.debug("mutation.apply", () -> "Applying wrong type mutation.", "operation", interaction.getOperation().getOperationId());
 
         ExtendedRandom random = Main.getEnvironment().getRandom();
 
@@ -43,7 +44,7 @@ public class WrongTypeMutator extends Mutator {
             }
 
             interaction.removeInput(entry);
-            interaction.getRequestInputs().add(new DictionaryEntry(mutatedParameter, valueProvider.provideValueFor(mutatedParameter)));
+            interaction.addRequestInput(new DictionaryEntry(mutatedParameter, valueProvider.provideValueFor(mutatedParameter)));
 
         } else if (parameter instanceof NumberParameter) {
             if (random.nextBoolean()) {
@@ -55,7 +56,7 @@ public class WrongTypeMutator extends Mutator {
             }
 
             interaction.removeInput(entry);
-            interaction.getRequestInputs().add(new DictionaryEntry(mutatedParameter, valueProvider.provideValueFor(mutatedParameter)));
+            interaction.addRequestInput(new DictionaryEntry(mutatedParameter, valueProvider.provideValueFor(mutatedParameter)));
 
         } else if (parameter instanceof BooleanParameter) {
             if (random.nextBoolean()) {
@@ -67,7 +68,7 @@ public class WrongTypeMutator extends Mutator {
             }
 
             interaction.removeInput(entry);
-            interaction.getRequestInputs().add(new DictionaryEntry(mutatedParameter, valueProvider.provideValueFor(mutatedParameter)));
+            interaction.addRequestInput(new DictionaryEntry(mutatedParameter, valueProvider.provideValueFor(mutatedParameter)));
 
         } else {
             logger.warning("Could not apply mutation. This parameter is not of a mutable type.");
@@ -1,8 +1,11 @@
 package io.testrest.core.oracle;
 
+import io.testrest.core.testing.RequestExecutor;
+import io.testrest.core.testing.TestInteraction;
+import io.testrest.core.testing.TestStatus;
 import io.testrest.datatype.graph.OperationNode;
+import io.testrest.helper.RunLog;
 
-import java.util.List;
 import java.util.logging.Logger;
 
 public class ErrorTestOracle extends StatusCodeOracle {
@@ -12,13 +15,34 @@ public class ErrorTestOracle extends StatusCodeOracle {
     }
 
     /**
-     * @param operationNode the Operation to be tested.
-     * @param testPaths paths to the testcases.
+     * Keeps mutants rejected by the server with a 4xx status code, the one asserted by the error scenario.
+     * @param interaction the executed mutated test interaction.
      * @return true if testcases are valid.
      */
     @Override
-    public boolean assessOperationTest(OperationNode operationNode, List<String> testPaths) {
+    public boolean assessOperationTest(TestInteraction interaction) {
+        OperationNode operationNode = interaction.getOperation();
+
+        if (interaction.getTestStatus() != TestStatus.EXECUTED) {
+            RunLog.debug("oracle.rejected", () -> "Rejected mutant without response for Operation: " + operationNode.getOperationId(),
+                    "operation", operationNode.getOperationId());
+            return false;
+        }
+
+        // A 411 rejects the request whatever the mutation, it is sent again with a content-length header
+        if (isLengthRequired(interaction) && !interaction.hasTag(RequestExecutor.LENGTH_REQUIRED_TAG)) {
+            RunLog.debug("oracle.length-required", () -> "Adding content-length to request.", "operation", operationNode.getOperationId());
+            interaction.addTag(RequestExecutor.LENGTH_REQUIRED_TAG);
+            return assessOperationTest(requestExecutor.execute(interaction));
+        }
+
+        int status = interaction.getResponseStatusCode().getCode();
+        if (!interaction.getResponseStatusCode().isClientError()) {
+            RunLog.debug("oracle.rejected", () -> "Rejected mutant returning " + status + " status code for Operation: " + operationNode.getOperationId(),
+                    "operation", operationNode.getOperationId(), "status", status);
+            return false;
+        }
 
         return true;
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,16 @@
 package io.testrest.core.oracle;
 
-import com.google.common.reflect.TypeToken;
-import com.google.gson.Gson;
-import com.intuit.karate.Results;
-import com.intuit.karate.core.StepResult;
+import io.testrest.Configuration;
 import io.testrest.Main;
+import io.testrest.core.dictionary.Dictionary;
 import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.testing.RequestExecutor;
+import io.testrest.core.testing.TestInteraction;
+import io.testrest.core.testing.TestStatus;
 import io.testrest.datatype.graph.OperationNode;
+import io.testrest.helper.RunLog;
 
-import java.io.*;
-import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 public class NominalTestOracle extends StatusCodeOracle {
     public NominalTestOracle() {
@@ -24,115 +19,93 @@ public class NominalTestOracle extends StatusCodeOracle {
     }
 
     /**
-     * Deletes 4xx testcases and saves returned values of other testcases to Dictionary.
-     * @param operationNode the Operation to be tested.
-     * @param testPaths paths to the testcases.
+     * Rejects testcases returning 4xx status codes and saves returned values of other testcases to Dictionary.
+     * @param interaction the executed test interaction.
      * @return true if testcases can be used to mutate.
      */
     @Override
-    public boolean assessOperationTest(OperationNode operationNode, List<String> testPaths) {
-        Results results = this.testRunner.testOperation(testPaths.get(0), operationNode.getOperationId());
-        boolean delete = false;
-
-        if (results.getErrors().size() > 0) {
-            String error = results.getErrors().get(0);
-            String status = error.substring(error.indexOf("status code was: ") + 17, error.indexOf("status code was: ") + 20);
-
-            if (status.equals("411") && addLength(operationNode.getOperationId(), testPaths)) {
-                results = this.testRunner.testOperation(testPaths.get(0), operationNode.getOperationId());
-                if (results.getErrors().size() > 0) {
-                    error = results.getErrors().get(0);
-                    status = error.substring(error.indexOf("status code was: ") + 17, error.indexOf("status code was: ") + 20);
-                }
-            }
-            if (status.startsWith("4") || error.contains("Unexpected token") || (!status.startsWith("5") && results.getFeaturesPassed() == 0)) {
-                delete = true;
-            }
+    public boolean assessOperationTest(TestInteraction interaction) {
+        OperationNode operationNode = interaction.getOperation();
+
+        if (interaction.getTestStatus() != TestStatus.EXECUTED) {
+            RunLog.debug("oracle.rejected", () -> "Rejected testcase without response for Operation: " + operationNode.getOperationId(),
+                    "operation", operationNode.getOperationId());
+            return false;
+        }
+
+        if (isLengthRequired(interaction) && !interaction.hasTag(RequestExecutor.LENGTH_REQUIRED_TAG)) {
+            RunLog.debug("oracle.length-required", () -> "Adding content-length to request.", "operation", operationNode.getOperationId());
+            interaction.addTag(RequestExecutor.LENGTH_REQUIRED_TAG);
+            return assessOperationTest(requestExecutor.execute(interaction));
         }
 
-        if (!delete && results.getFeaturesPassed() == results.getFeaturesTotal() && results.getFeaturesPassed() > 0) {
-            delete = !receiveResponseValues(operationNode, results, testPaths);
+        int status = interaction.getResponseStatusCode().getCode();
+        boolean keep;
+
+        if (interaction.getResponseStatusCode().isClientError()) {
+            keep = false;
+        } else if (String.valueOf(status).equals(getExpectedStatus(operationNode))) {
+            keep = receiveResponseValues(interaction);
+        } else {
+            // The scenario would fail on its status assertion, only server errors are worth keeping
+            keep = interaction.getResponseStatusCode().isServerError();
         }
 
-        if (delete) {
-            testPaths.forEach(path -> {
-                try {
-                    deleteTestcase(path, operationNode.getOperationId());
-                } catch (IOException e) {
-                    logger.warning("Exception raised when attempting to delete testcase for Operation " + operationNode.getOperationId());
-                    logger.log(Level.INFO, e.getMessage());
-                }
-            });
-
-            logger.info("Deleted testcase returning 4xx status code for Operation: " + operationNode.getOperationId());
+        if (!keep) {
+            RunLog.debug("oracle.rejected", () -> "Rejected testcase returning " + status + " status code for Operation: " + operationNode.getOperationId(),
+                    "operation", operationNode.getOperationId(), "status", status);
         }
 
-        return !delete;
+        return keep;
     }
 
     /**
-     * Gets values returned by a request and saves them to Dictionary.
-     * @param results karate results object.
+     * Gets values returned by a request and saves them to Dictionary. The response is read in a single streaming pass
+     * that harvests every output of the operation.
+     * @param interaction the executed test interaction.
      * @return true if response value received successfully (status 2xx or 5xx).
      */
-    public boolean receiveResponseValues(OperationNode operationNode, Results results, List<String> testPaths) {
-        System.out.println("RESPONSE: \n");
-        List<StepResult> stepResults = results.getScenarioResults().collect(Collectors.toList()).get(0).getStepResults();
-        StepResult print_step = stepResults.get(stepResults.size() - 1);
-        String response = print_step.getStepLog();
-        response = response.substring(response.lastIndexOf("[print] ") + 8, response.length() - 2).strip();
-        System.out.println(response);
+    public boolean receiveResponseValues(TestInteraction interaction) {
+        String response = interaction.getResponseBody() == null ? "" : interaction.getResponseBody().strip();
         String status = "200";
 
-        if (response.startsWith("{")) {
-            Gson gson = new Gson();
-            Type type = new TypeToken<Map<String, Object>>(){}.getType();
+        if (response.startsWith("{") || response.startsWith("[")) {
+            ResponseValueHarvester harvester = new ResponseValueHarvester(interaction.getOperation().getOutputs(),
+                    Configuration.getMaxValuesPerOutput());
 
-            Map<String, Object> map = new HashMap<>(gson.fromJson(response, type));
+            if (!harvester.harvest(response)) {
+                return !response.startsWith("{");
+            }
 
-            if (map.containsKey("code") && isStatusCode(map.get("code").toString())) {
-                status = map.get("code").toString();
-            } else if (map.containsKey("status") && isStatusCode(map.get("status").toString())) {
-                status = map.get("status").toString();
+            if (isStatusCode(harvester.getTopLevelCode())) {
+                status = harvester.getTopLevelCode();
+            } else if (isStatusCode(harvester.getTopLevelStatus())) {
+                status = harvester.getTopLevelStatus();
             }
 
             if (status.startsWith("2")) {
-//                Parse response
-                List<String> outputs = operationNode.getOutputs();
-                outputs.forEach(output -> {
-                    Object value = findValueByKey(map, output);
-                    if (value != null) {
-                        System.out.println("Key: " + output + ", Value: " + value);
-                        Main.getEnvironment().getGlobalDictionary().addEntry(new DictionaryEntry(output, value.toString()));
+                Dictionary dictionary = Main.getEnvironment().getGlobalDictionary();
+                harvester.getValues().forEach((output, values) -> {
+                    for (String value : values) {
+                        dictionary.addEntry(new DictionaryEntry(output, value));
                     }
                 });
             }
-
-        } else if (response.startsWith("<") && response.endsWith(">")) {
-            if (response.contains("Length Required") && response.contains("411")) {
-                status = "411";
-                if (addLength(operationNode.getOperationId(), testPaths)) {
-                    results = this.testRunner.testOperation(testPaths.get(0), operationNode.getOperationId());
-                    status = receiveResponseValues(operationNode, results, testPaths) ? "200" : "400";
-                }
-            }
         }
 
         return status.startsWith("2") || status.startsWith("5");
     }
 
-    private static Object findValueByKey(Map<String, Object> map, String key) {
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            if (entry.getKey().equals(key)) {
-                return entry.getValue();
-            } else if (entry.getValue() instanceof Map) {
-                Object nestedValue = findValueByKey((Map<String, Object>) entry.getValue(), key);
-                if (nestedValue != null) {
-                    return nestedValue;
-                }
-            }
-        }
-        return null;
+    /**
+     * The status code asserted by the nominal scenario of an operation.
+     * @param operationNode the operation.
+     * @return the first documented response status code, "200" if none or default.
+     */
+    public static String getExpectedStatus(OperationNode operationNode) {
+        String responseStatus = operationNode.getResponses() == null ? "200" : operationNode.getResponses().keySet().stream()
+                .findFirst()
+                .orElse("200");
+        return responseStatus.contains("default") ? "200" : responseStatus;
     }
 
     private boolean isStatusCode(String str) {
@@ -146,34 +119,4 @@ public class NominalTestOracle extends StatusCodeOracle {
             return false;
         }
     }
-
-    private boolean addLength(String operationId, List<String> testPaths) {
-        System.out.println("Adding content-length to request.");
-        for (String testPath : testPaths) {
-            try {
-                File inputFile = new File(testPath);
-                BufferedReader reader = new BufferedReader(new FileReader(inputFile));
-
-                StringBuilder sb = new StringBuilder();
-                String currentLine;
-
-                while ((currentLine = reader.readLine()) != null) {
-                    sb.append(currentLine).append(System.getProperty("line.separator"));
-                    if (currentLine.contains("Scenario: " + operationId)) {
-                        sb.append("\t\tGiven header content-length = 0").append(System.getProperty("line.separator"));
-                    }
-                }
-
-                reader.close();
-
-                FileWriter fileWriter = new FileWriter(inputFile, false);
-                fileWriter.write(sb.toString());
-                fileWriter.close();
-            } catch (IOException e) {
-                return false;
-            }
-        }
-
-        return true;
-    }
 }
@@ -0,0 +1,148 @@
+package io.testrest.core.oracle;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * Extracts the values of a set of output keys from a JSON response in a single streaming pass, without building the
+ * response tree. Scalar values of a matching key are harvested wherever the key appears, including inside arrays,
+ * up to a maximum number of values per key.
+ */
+public class ResponseValueHarvester {
+
+    private final Set<String> keys;
+    private final int maxValuesPerKey;
+
+    private final Map<String, List<String>> values = new LinkedHashMap<>();
+    private String topLevelCode;
+    private String topLevelStatus;
+
+    /**
+     * @param keys the output keys to harvest.
+     * @param maxValuesPerKey maximum number of values kept for each key.
+     */
+    public ResponseValueHarvester(Collection<String> keys, int maxValuesPerKey) {
+        this.keys = new HashSet<>(keys);
+        this.maxValuesPerKey = maxValuesPerKey;
+    }
+
+    /**
+     * Harvests the values of the output keys from a response body.
+     * @param body the JSON response body.
+     * @return false if the body is not valid JSON.
+     */
+    public boolean harvest(String body) {
+        return harvest(new StringReader(body));
+    }
+
+    /**
+     * Harvests the values of the output keys from a JSON document.
+     * @param reader the JSON document.
+     * @return false if the document is not valid JSON.
+     */
+    public boolean harvest(Reader reader) {
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            readValue(jsonReader, null, 0);
+            return jsonReader.peek() == JsonToken.END_DOCUMENT;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the next value of the document.
+     * @param key the key of the value, or of the enclosing array; null if the key is not harvested.
+     * @param depth the nesting depth of the value, 0 for the root value and 1 for its members or elements.
+     */
+    private void readValue(JsonReader reader, String key, int depth) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (depth == 0 && (name.equals("code") || name.equals("status"))) {
+                        readTopLevelStatus(reader, name);
+                    } else {
+                        readValue(reader, keys.contains(name) ? name : null, depth + 1);
+                    }
+                }
+                reader.endObject();
+                break;
+            case BEGIN_ARRAY:
+                // Elements of an array keep the key of the array
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readValue(reader, key, depth + 1);
+                }
+                reader.endArray();
+                break;
+            case STRING:
+            case NUMBER:
+                // Numbers are read as they are written in the response
+                addValue(key, reader.nextString());
+                break;
+            case BOOLEAN:
+                addValue(key, String.valueOf(reader.nextBoolean()));
+                break;
+            case NULL:
+                reader.nextNull();
+                break;
+            default:
+                reader.skipValue();
+        }
+    }
+
+    private void readTopLevelStatus(JsonReader reader, String name) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            readValue(reader, keys.contains(name) ? name : null, 1);
+            return;
+        }
+
+        String value = reader.nextString();
+        if (name.equals("code")) {
+            topLevelCode = value;
+        } else {
+            topLevelStatus = value;
+        }
+        if (keys.contains(name)) {
+            addValue(name, value);
+        }
+    }
+
+    private void addValue(String key, String value) {
+        if (key == null) {
+            return;
+        }
+        List<String> keyValues = values.computeIfAbsent(key, k -> new ArrayList<>());
+        if (keyValues.size() < maxValuesPerKey) {
+            keyValues.add(value);
+        }
+    }
+
+    /**
+     * @return the harvested values of each key, in order of appearance.
+     */
+    public Map<String, List<String>> getValues() {
+        return values;
+    }
+
+    /**
+     * @return the "code" member of the root object, null if it is missing or not a scalar.
+     */
+    public String getTopLevelCode() {
+        return topLevelCode;
+    }
+
+    /**
+     * @return the "status" member of the root object, null if it is missing or not a scalar.
+     */
+    public String getTopLevelStatus() {
+        return topLevelStatus;
+    }
+}
@@ -1,43 +1,34 @@
 package io.testrest.core.oracle;
 
-import io.testrest.datatype.graph.OperationNode;
-import io.testrest.core.testing.TestRunner;
+import io.testrest.core.testing.RequestExecutor;
+import io.testrest.core.testing.TestInteraction;
 
-import java.io.*;
-import java.util.List;
 import java.util.logging.Logger;
 
 public abstract class StatusCodeOracle {
     protected static Logger logger;
 
-    TestRunner testRunner;
+    RequestExecutor requestExecutor;
 
     StatusCodeOracle() {
-        testRunner = new TestRunner();
+        requestExecutor = new RequestExecutor();
     }
 
     /**
+     * @param interaction the executed test interaction.
      * @return true if the testcase should be kept.
      */
-    public abstract boolean assessOperationTest(OperationNode operationNode, List<String> testPath);
+    public abstract boolean assessOperationTest(TestInteraction interaction);
 
-    public void deleteTestcase(String testPath, String operationId) throws IOException {
-        File inputFile = new File(testPath);
-        BufferedReader reader = new BufferedReader(new FileReader(inputFile));
-
-        StringBuilder sb = new StringBuilder();
-        String lineToRemove = "@".concat(operationId);
-        String currentLine;
-
-        while ((currentLine = reader.readLine()) != null) {
-            if (currentLine.contains(lineToRemove)) break;
-            sb.append(currentLine).append(System.getProperty("line.separator"));
+    /**
+     * @param interaction the executed test interaction.
+     * @return true if the server refused the request for lacking a content-length header.
+     */
+    boolean isLengthRequired(TestInteraction interaction) {
+        if (interaction.getResponseStatusCode().getCode() == 411) {
+            return true;
         }
-
-        reader.close();
-
-        FileWriter fileWriter = new FileWriter(inputFile, false);
-        fileWriter.write(sb.toString());
-        fileWriter.close();
+        String body = interaction.getResponseBody() == null ? "" : interaction.getResponseBody().strip();
+        return body.startsWith("<") && body.endsWith(">") && body.contains("Length Required") && body.contains("411");
     }
 }
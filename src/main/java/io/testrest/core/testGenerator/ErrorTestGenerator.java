@@ -7,137 +7,194 @@ import io.testrest.datatype.graph.OperationNode;
 import io.testrest.datatype.parameter.ParameterLocation;
 import io.testrest.datatype.parameter.ParameterName;
 import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.metrics.Metrics;
+import io.testrest.core.metrics.Phase;
 import io.testrest.core.oracle.ErrorTestOracle;
+import io.testrest.core.testing.RequestExecutor;
 import io.testrest.core.testing.TestInteraction;
 import io.testrest.core.testing.TestSequence;
+import io.testrest.helper.ExtendedRandom;
 import org.jgrapht.alg.util.Pair;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 public class ErrorTestGenerator extends TestGenerator {
     protected Logger logger = Logger.getLogger(ErrorTestGenerator.class.getName());
     private List<String> errorTestPaths = new ArrayList<>();
+    private final List<String> serverUrls;
+
+    // Mutators applied first, and the ones applied again once all mutations of an interaction have been used
     private final Set<Mutator> mutators;
+    private final Set<Mutator> fallbackMutators;
 
     public ErrorTestGenerator(List<String> serverUrls) {
         super();
 
         setStatusCodeOracle(new ErrorTestOracle());
         setTestOutPutPath(Environment.getConfiguration().getOutputPath() + "/ErrorTests/");
+        this.serverUrls = serverUrls;
         for (String url : serverUrls) {
             String filename = (serverUrls.size() > 1 ? "TestServer" + (serverUrls.indexOf(url)+1) : "Tests") + ".feature";
-            addTestFile(filename);
             errorTestPaths.add(getTestOutPutPath().substring(getTestOutPutPath().indexOf("output/")).concat(filename));
             generateTestBackground(url, filename);
         }
 
-        mutators = new HashSet<>();
-        mutators.add(new MissingRequiredMutator());
-        mutators.add(new WrongTypeMutator());
-        mutators.add(new ConstraintViolationMutator());
-        mutators.add(new UnmatchedRegexMutator());
+        Set<Mutator> allMutators = new LinkedHashSet<>();
+        allMutators.add(new MissingRequiredMutator());
+        allMutators.add(new WrongTypeMutator());
+        allMutators.add(new ConstraintViolationMutator());
+        allMutators.add(new UnmatchedRegexMutator());
+        mutators = Collections.unmodifiableSet(allMutators);
+
+        Set<Mutator> repeatableMutators = new LinkedHashSet<>();
+        repeatableMutators.add(new ConstraintViolationMutator());
+        repeatableMutators.add(new WrongTypeMutator());
+        repeatableMutators.add(new UnmatchedRegexMutator());
+        fallbackMutators = Collections.unmodifiableSet(repeatableMutators);
     }
 
     /**
      * Main test generate and validate function.
+     * Mutants are generated on the calling thread, executed on the worker pool, then assessed in generation order.
      */
     public void generateTest(TestSequence nominalTestSequence) {
-        Double numberOfMutants = Environment.getConfiguration().getNumberOfMutants();
+        List<TestInteraction> mutants = generateMutants(nominalTestSequence);
+        ExecutorService workers = Executors.newFixedThreadPool(Environment.getConfiguration().getParallelism());
 
-        // Iterate on interaction of test sequence
-        for (TestInteraction interaction : nominalTestSequence) {
-            // Get set of applicable mutations to this operation
-            Set<Pair<DictionaryEntry, Mutator>> mutablePairs = new HashSet<>();
-            interaction.getRequestInputs().forEach(entry -> mutators.forEach(mutator -> {
-                if (mutator.isParameterMutable(entry.getSource())) {
-                    mutablePairs.add(new Pair<>(entry, mutator));
+        try {
+            List<Future<TestInteraction>> executions = new ArrayList<>(mutants.size());
+            mutants.forEach(mutant -> executions.add(workers.submit(() -> executeMutant(mutant))));
+
+            for (int i = 0; i < executions.size(); i++) {
+                try {
+                    TestInteraction mutant = executions.get(i).get();
+                    if (generateOperationTest(mutant)) {
+                        addTestCase(mutant);
+                    }
+                } catch (ExecutionException e) {
+                    logger.warning("Exception raised when executing mutant of Operation "
+                            + mutants.get(i).getOperation().getOperationId() + ": " + e.getCause());
                 }
-            }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+        }
 
-            // For each sequence, we generate n mutants for the last interaction
-            for (int j = 0; j < numberOfMutants && mutablePairs.size() > 0; j++) {
+        exportTestCases();
+    }
 
-                // Get last interaction in the sequence
-                TestInteraction mutableInteraction = interaction.deepClone();
-                mutableInteraction.addTag("mutated");
+    /**
+     * Generates up to numberOfMutants mutants for each interaction of the nominal test sequence.
+     * @param nominalTestSequence the nominal test sequence.
+     * @return the mutants, in order of the nominal interactions they come from.
+     */
+    private List<TestInteraction> generateMutants(TestSequence nominalTestSequence) {
+        Double numberOfMutants = Environment.getConfiguration().getNumberOfMutants();
+        List<TestInteraction> mutants = new ArrayList<>();
 
-                // Choose a random mutation pair
-                Optional<Pair<DictionaryEntry, Mutator>> mutable = Main.getEnvironment().getRandom().nextElement(mutablePairs);
+        ExtendedRandom rootRandom = Main.getEnvironment().getRootRandom();
+        int index = 0;
 
-                if (mutable.isPresent()) {
+        try {
+            // Iterate on interaction of test sequence
+            for (TestInteraction interaction : nominalTestSequence) {
+                // Get set of applicable mutations to this operation
+                Set<Pair<DictionaryEntry, Mutator>> mutablePairs = getMutablePairs(interaction, mutators);
+                index++;
+
+                // For each sequence, we generate n mutants for the last interaction
+                for (int j = 0; j < numberOfMutants && mutablePairs.size() > 0; j++) {
+                    // Each mutant draws from its own stream
+                    Main.getEnvironment().setThreadRandom(rootRandom.split("mutant " + interaction.getOperation().getOperationId() + " " + index + " " + j));
+
+                    // Get last interaction in the sequence
+                    TestInteraction mutableInteraction = interaction.deepClone();
+                    mutableInteraction.addTag("mutated");
+                    if (interaction.hasTag(RequestExecutor.LENGTH_REQUIRED_TAG)) {
+                        mutableInteraction.addTag(RequestExecutor.LENGTH_REQUIRED_TAG);
+                    }
 
-                    try {
+                    // Choose a random mutation pair
+                    Optional<Pair<DictionaryEntry, Mutator>> mutable = Main.getEnvironment().getRandom().nextElement(mutablePairs);
 
-                        // Apply mutation
-                        mutable.get().getSecond().mutate(mutable.get().getFirst(), mutableInteraction);
-                        mutablePairs.remove(mutable.get());
+                    if (mutable.isPresent()) {
 
-                        // Add new pairs to list in case all pairs are used.
-                        if (mutablePairs.size() == 0) {
-                            mutators.clear();
-                            mutators.add(new ConstraintViolationMutator());
-                            mutators.add(new WrongTypeMutator());
-                            mutators.add(new UnmatchedRegexMutator());
+                        try {
 
-                            interaction.getRequestInputs().forEach(entry -> mutators.forEach(mutator -> {
-                                if (mutator.isParameterMutable(entry.getSource())) {
-                                    mutablePairs.add(new Pair<>(entry, mutator));
-                                }
-                            }));
-                        }
+                            // Apply mutation
+                            long start = System.nanoTime();
+                            mutable.get().getSecond().mutate(mutable.get().getFirst(), mutableInteraction);
+                            Metrics.record(Phase.VALUE_GENERATION, interaction.getOperation(), System.nanoTime() - start);
+                            mutablePairs.remove(mutable.get());
 
-                        // Run & evaluate sequence with oracles
-                        boolean success = generateOperationTest(mutableInteraction);
+                            // Add new pairs to list in case all pairs are used.
+                            if (mutablePairs.size() == 0) {
+                                mutablePairs = getMutablePairs(interaction, fallbackMutators);
+                            }
 
-                        if (success) {
-                            System.out.println("BEFORE MUTATION: \n" + interaction.getRequestInputs().toString());
-                            System.out.println("AFTER MUTATION: \n" + mutableInteraction.getRequestInputs().toString());
+                            mutants.add(mutableInteraction);
 
-                            testSequence.add(mutableInteraction);
+                        } catch (Exception e) {
+                            logger.warning("Could not apply mutation.");
+                            e.printStackTrace();
                         }
-
-                    } catch (Exception e) {
-                        logger.warning("Could not apply mutation.");
-                        e.printStackTrace();
                     }
                 }
             }
+        } finally {
+            Main.getEnvironment().setThreadRandom(null);
         }
-    }
 
-    @Override
-    public void generateTestBackground(String url, String filename) {
-        File file = new File(getTestOutPutPath());
-        file.mkdirs();
+        return mutants;
+    }
 
-        String filePath = getTestOutPutPath() + filename;
-        addTestFile(filePath);
+    private static Set<Pair<DictionaryEntry, Mutator>> getMutablePairs(TestInteraction interaction, Set<Mutator> mutators) {
+        Set<Pair<DictionaryEntry, Mutator>> mutablePairs = new LinkedHashSet<>();
+        interaction.getRequestInputs().forEach(entry -> mutators.forEach(mutator -> {
+            if (mutator.isParameterMutable(entry.getSource())) {
+                mutablePairs.add(new Pair<>(entry, mutator));
+            }
+        }));
+        return mutablePairs;
+    }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("Feature: ").append(filename.contains("Server") ? filename.substring(4, filename.indexOf(".")) + " error tests\n" : "Error tests\n");
-        sb.append("\n\tBackground:\n\t\tGiven url '" + url + "'");
+    private TestInteraction executeMutant(TestInteraction mutant) {
+        setRequestInfo(mutant, serverUrls.get(0));
+        return requestExecutor.execute(mutant);
+    }
 
-        try {
-            FileWriter myWriter = new FileWriter(filePath, true);
-            myWriter.write(sb.toString());
-            myWriter.close();
-        } catch (IOException e) {
-            System.out.println("An error occurred. Could not create background condition");
-            e.printStackTrace();
-        }
+    @Override
+    public void generateTestBackground(String url, String filename) {
+        String title = filename.contains("Server") ? filename.substring(4, filename.indexOf(".")) + " error tests" : "Error tests";
+        addFeatureDocument(getTestOutPutPath() + filename, new FeatureDocument(title, url));
     }
 
     public boolean generateOperationTest(TestInteraction interaction) {
+        long start = System.nanoTime();
+        boolean passed = getStatusCodeOracle().assessOperationTest(interaction);
+        Metrics.record(Phase.ORACLE_ASSESSMENT, interaction.getOperation(), System.nanoTime() - start);
+        return passed;
+    }
+
+    @Override
+    public String generateScenario(TestInteraction interaction) {
         OperationNode operation = interaction.getOperation();
         StringBuilder sb = new StringBuilder();
 
         sb.append("\n\n\t@").append(operation.getOperationId());
         sb.append("\n\tScenario: ").append(operation.getOperationId()).append(" ").append(interaction.getMutateInfo());
 
+        if (interaction.hasTag(RequestExecutor.LENGTH_REQUIRED_TAG)) {
+            sb.append("\n\t\tGiven header content-length = 0");
+        }
+
         if (operation.containsHeader()) {
             String temp_string = "\n\t\t* configure headers = {";
             boolean added_header = false;
@@ -166,23 +223,17 @@ public class ErrorTestGenerator extends TestGenerator {
                 sb.append(generateQueryInput(entry.getSource().getName(), entry.getValue().toString()));
         }
 
+        // The request sent when the mutant was assessed
+        if (interaction.getRequestBody() != null) {
+            sb.append("\n\t\tAnd request ").append(interaction.getRequestBody());
+        }
+
         sb.append("\n\t\tWhen method ").append(operation.getMethod());
         sb.append("\n\t\tAnd print response");
         sb.append("\n\t\tAnd print responseStatus");
         sb.append("\n\t\tThen assert responseStatus >= 400 && responseStatus < 500");
 
-        for (String filename : getTestFiles()) {
-            try {
-                FileWriter myWriter = new FileWriter(filename, true);
-                myWriter.write(sb.toString());
-                myWriter.close();
-            } catch (IOException e) {
-                System.out.println("An error occurred. Could not write testcases to file " + filename);
-                e.printStackTrace();
-            }
-        }
-
-        return getStatusCodeOracle().assessOperationTest(operation, getErrorTestPaths());
+        return sb.toString();
     }
 
     public String generatePathInput(ParameterName parameterName, String value, String path) {
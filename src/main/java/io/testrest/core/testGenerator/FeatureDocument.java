@@ -0,0 +1,80 @@
+package io.testrest.core.testGenerator;
+
+import io.testrest.helper.FileHelper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * In-memory Karate feature: a title, a background and the scenarios of the accepted testcases.
+ * The file is only written by {@link #write(Path)}, which replaces its previous content atomically.
+ */
+public class FeatureDocument {
+
+    private final String title;
+    private final String url;
+
+    // Scenarios in order of acceptance
+    private final List<String> scenarios = new ArrayList<>();
+
+    /**
+     * @param title name of the feature.
+     * @param url base url set in the background of the feature.
+     */
+    public FeatureDocument(String title, String url) {
+        this.title = title;
+        this.url = url;
+    }
+
+    public synchronized void addScenario(String scenario) {
+        scenarios.add(scenario);
+    }
+
+    public synchronized int size() {
+        return scenarios.size();
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return the Karate feature text.
+     */
+    public synchronized String render() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Feature: ").append(title).append("\n");
+        sb.append("\n\tBackground:\n\t\tGiven url '").append(url).append("'");
+        scenarios.forEach(sb::append);
+        return sb.toString();
+    }
+
+    /**
+     * Writes the feature to a temporary file next to the target, then moves it over the target, so that the feature
+     * file is never seen half written.
+     * @param path path of the feature file.
+     */
+    public void write(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(render());
+            }
+            FileHelper.replace(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package io.testrest.core.testGenerator;
+
+import com.google.common.base.Stopwatch;
+import io.testrest.Configuration;
+import io.testrest.core.dictionary.Dictionary;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLeaf;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and attempt budget of the nominal fuzzing.
+ * The run stops when its total time is spent or when the operation coverage has not grown for a number of loops.
+ * Each operation and each loop can also be given a time limit. Operations that failed before are retried with all
+ * their attempts only if the Dictionary gained values for their inputs since their last try, with a single attempt
+ * otherwise. A zero limit means no limit.
+ */
+public class FuzzingBudget {
+
+    private final long totalNanos;
+    private final long operationNanos;
+    private final long loopNanos;
+    private final int plateauLoops;
+    private final Dictionary dictionary;
+
+    private final Stopwatch stopwatch = Stopwatch.createStarted();
+    private volatile long loopStart;
+    private int bestCoverage = -1;
+    private int loopsWithoutGain = 0;
+
+    // Time spent on each operation, and number of Dictionary values added for its inputs up to its last try
+    private final Map<String, Long> operationTimes = new ConcurrentHashMap<>();
+    private final Map<String, Long> knownInputValues = new ConcurrentHashMap<>();
+
+    /**
+     * @param totalMinutes wall-clock budget of the run.
+     * @param operationSeconds time budget of each operation, over all loops.
+     * @param loopSeconds time budget of each ODG loop.
+     * @param plateauLoops number of loops without coverage gain after which the run stops.
+     * @param dictionary the Dictionary providing values to the inputs.
+     */
+    public FuzzingBudget(double totalMinutes, double operationSeconds, double loopSeconds, int plateauLoops, Dictionary dictionary) {
+        this.totalNanos = (long) (totalMinutes * 60e9);
+        this.operationNanos = (long) (operationSeconds * 1e9);
+        this.loopNanos = (long) (loopSeconds * 1e9);
+        this.plateauLoops = plateauLoops;
+        this.dictionary = dictionary;
+        this.loopStart = elapsedNanos();
+    }
+
+    /**
+     * @return the budget set in the configuration.
+     */
+    public static FuzzingBudget fromConfiguration(Dictionary dictionary) {
+        return new FuzzingBudget(Configuration.getTimeBudgetMinutes(), Configuration.getOperationBudgetSeconds(),
+                Configuration.getLoopBudgetSeconds(), Configuration.getPlateauLoops(), dictionary);
+    }
+
+    private long elapsedNanos() {
+        return stopwatch.elapsed(TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return true if the total time of the run is spent.
+     */
+    public boolean isExhausted() {
+        return totalNanos > 0 && elapsedNanos() >= totalNanos;
+    }
+
+    public void startLoop() {
+        loopStart = elapsedNanos();
+    }
+
+    /**
+     * @return true if the time of the current loop or of the run is spent.
+     */
+    public boolean isLoopExhausted() {
+        return (loopNanos > 0 && elapsedNanos() - loopStart >= loopNanos) || isExhausted();
+    }
+
+    /**
+     * Records the coverage reached at the end of a loop.
+     * @param coverage number of covered operations.
+     * @return true if the coverage has not grown for the configured number of loops.
+     */
+    public synchronized boolean endLoop(int coverage) {
+        if (coverage > bestCoverage) {
+            bestCoverage = coverage;
+            loopsWithoutGain = 0;
+        } else {
+            loopsWithoutGain++;
+        }
+        return hasPlateaued();
+    }
+
+    public synchronized boolean hasPlateaued() {
+        return plateauLoops > 0 && loopsWithoutGain >= plateauLoops;
+    }
+
+    /**
+     * @return true if the time given to the operation is spent.
+     */
+    public boolean isOperationExhausted(OperationNode operationNode) {
+        return operationNanos > 0 && operationTimes.getOrDefault(operationNode.getOperationId(), 0L) >= operationNanos;
+    }
+
+    /**
+     * Adds time spent testing an operation.
+     */
+    public void spend(OperationNode operationNode, long nanos) {
+        operationTimes.merge(operationNode.getOperationId(), nanos, Long::sum);
+    }
+
+    /**
+     * Number of attempts to give to an operation in this loop. Operations tried before only get all their attempts
+     * again if new Dictionary values are available for their inputs.
+     * @param operationNode the operation.
+     * @param maxAttempts attempts of an operation tried for the first time.
+     * @return the number of attempts.
+     */
+    public int allocateAttempts(OperationNode operationNode, int maxAttempts) {
+        long inputValues = countInputValues(operationNode);
+        Long previousValues = knownInputValues.put(operationNode.getOperationId(), inputValues);
+
+        if (previousValues == null || inputValues > previousValues) {
+            return maxAttempts;
+        }
+        return Math.min(1, maxAttempts);
+    }
+
+    /**
+     * Counts the values ever added for the inputs, so that new values are seen even when evicting older ones.
+     */
+    private long countInputValues(OperationNode operationNode) {
+        long count = 0;
+        for (ParameterLeaf leaf : operationNode.getParameterLeafList()) {
+            count += dictionary.getInsertions(leaf.getNormalizedName(), leaf.getType());
+        }
+        return count;
+    }
+
+    public long getElapsed(TimeUnit unit) {
+        return stopwatch.elapsed(unit);
+    }
+}
@@ -1,34 +1,40 @@
 package io.testrest.core.testGenerator;
 
-import com.google.common.base.Stopwatch;
+import io.testrest.Configuration;
 import io.testrest.Environment;
 import io.testrest.Main;
+import io.testrest.datatype.HttpMethod;
 import io.testrest.datatype.graph.OperationDependencyGraph;
 import io.testrest.datatype.graph.OperationNode;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.datatype.parameter.ParameterLocation;
 import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.metrics.Metrics;
+import io.testrest.core.metrics.Phase;
 import io.testrest.core.oracle.NominalTestOracle;
 import io.testrest.core.valueProvider.multi.CombinedProviderParameterValueProvider;
 import io.testrest.datatype.graph.OperationsSorter;
+import io.testrest.core.testing.RequestExecutor;
 import io.testrest.core.testing.TestInteraction;
 import io.testrest.core.testing.TestSequence;
+import io.testrest.helper.ExtendedRandom;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 import java.util.logging.Logger;
 
 public class NominalTestGenerator extends TestGenerator {
     protected Logger logger = Logger.getLogger(NominalTestGenerator.class.getName());
     private final CombinedProviderParameterValueProvider parameterValueProvider = new CombinedProviderParameterValueProvider();
+    private final List<String> serverUrls;
     private List<String> nominalTestPaths = new ArrayList<>();
-    private List<DictionaryEntry> pendingEntries = new LinkedList<>();
+    private FuzzingBudget budget;
+    private SessionCheckpoint checkpoint;
+    // Random stream of each operation, by operationId
+    private final Map<String, ExtendedRandom> randomStreams = new ConcurrentHashMap<>();
 
     /**
      * Initializes generator and generate testcases for all params of each operation of every path, the consequence is based on CRUD semantic.
@@ -39,9 +45,9 @@ public class NominalTestGenerator extends TestGenerator {
         super();
         setStatusCodeOracle(new NominalTestOracle());
         setTestOutPutPath(Environment.getConfiguration().getOutputPath() + "/NominalTests/");
+        this.serverUrls = serverUrls;
         for (String url : serverUrls) {
             String filename = (serverUrls.size() > 1 ? "TestServer" + (serverUrls.indexOf(url)+1) : "Tests") + ".feature";
-            addTestFile(filename);
             nominalTestPaths.add(getTestOutPutPath().substring(getTestOutPutPath().indexOf("output/")).concat(filename));
             generateTestBackground(url, filename);
         }
@@ -49,193 +55,314 @@ public class NominalTestGenerator extends TestGenerator {
 
     /**
      * Main test generate and validate function.
+     * Leaves of the ODG do not depend on each other, so they are tested concurrently, one HTTP method at a time
+     * to keep the CRUD order between them. When only cycles are left, the strongly connected components that do not
+     * depend on other operations are tested.
+     * The generation stops when the time budget is spent or the coverage stops growing (see {@link FuzzingBudget}).
+     * Operations that spent their own budget are dropped from the ODG so that their dependents can be tested.
+     * With a checkpoint, the accepted testcases of an interrupted session are restored first, and the progress is
+     * appended to the checkpoint after each group of tested operations.
      * @param operationDependencyGraph Operation Dependencies Graph.
      */
     public TestSequence generateTest(OperationDependencyGraph operationDependencyGraph) {
-        Double maxFuzzingTimes = Environment.getConfiguration().getMaxFuzzingTimes();
         int numOfOperations = operationDependencyGraph.getGraph().vertexSet().size();
         int loops = 0;
-        Stopwatch stopwatch = Stopwatch.createStarted();
+        budget = FuzzingBudget.fromConfiguration(Main.getEnvironment().getGlobalDictionary());
         OperationDependencyGraph ODG = operationDependencyGraph.deepClone();
+        ExecutorService workers = Executors.newFixedThreadPool(Environment.getConfiguration().getParallelism());
 
-        while (testSequence.operationCoverage() < numOfOperations
-                && stopwatch.elapsed(TimeUnit.MINUTES) < (long) 60
-                && ODG.getGraph().vertexSet().size() > 0) {
+        if (checkpoint != null) {
+            resume(ODG);
+        }
+
+        try {
+            while (testSequence.operationCoverage() < numOfOperations
+                    && !budget.isExhausted() && !budget.hasPlateaued()
+                    && ODG.getGraph().vertexSet().size() > 0) {
 
-//            while (ODG.getGraph().vertexSet().size() > 0) {
+                budget.startLoop();
+                List<OperationNode> testedNodes = new ArrayList<>();
                 List<OperationNode> nodeToTest = ODG.getLeaves();
 
-                if (nodeToTest.size() == 0) {
-                    nodeToTest = ODG.getNextDependentNodes();
+                if (nodeToTest.size() > 0) {
+                    // Test leaves of the same method concurrently
+                    for (List<OperationNode> stage : groupByMethod(OperationsSorter.semanticSort(nodeToTest))) {
+                        testedNodes.addAll(testConcurrently(stage, workers));
+                        saveCheckpoint();
+                    }
+                } else {
+                    // Only cycles are left: operations of each ready component are tested one by one,
+                    // those with the most satisfied inputs first
+                    List<List<OperationNode>> components = ODG.getReadyComponents();
+                    logger.info("No leaves in the ODG, testing " + components.size() + " strongly connected components.");
+                    for (List<OperationNode> component : components) {
+                        for (OperationNode operationNode : component) {
+                            if (testOperation(operationNode)) {
+                                testedNodes.add(operationNode);
+                            }
+                        }
+                        saveCheckpoint();
+                    }
                 }
 
-                nodeToTest = OperationsSorter.semanticSort(nodeToTest);
-
-                // Test each operation
-                for (OperationNode operationNode : nodeToTest) {
-                    while (operationNode.getTestedTimes() <= maxFuzzingTimes) {
-                        boolean success = generateOperationTest(operationNode);
-                        operationNode.markAsTested();
+                // Remove successfully tested nodes
+                testedNodes.forEach(ODG::removeVertex);
 
-                        // Remove successfully tested nodes
-                        if (success) {
-                            ODG.getGraph().removeVertex(operationNode);
-                            break;
-                        }
-                        // Limit to avoid infinite loop
-                        if (operationNode.getTestedTimes() == maxFuzzingTimes) {
-                            operationNode.resetTestedTimes();
-                            break;
-                        }
+                // Give up on operations that spent their budget
+                for (OperationNode operationNode : new ArrayList<>(ODG.getGraph().vertexSet())) {
+                    if (budget.isOperationExhausted(operationNode)) {
+                        logger.info("Operation " + operationNode.getOperationId() + " spent its budget without passing.");
+                        ODG.removeVertex(operationNode);
                     }
                 }
-//            }
 
-            loops++;
-            Main.logReport("Loop: " + loops + ". Operation coverage: " + testSequence.operationCoverage());
+                loops++;
+                budget.endLoop(testSequence.operationCoverage());
+                Main.logReport("Loop: " + loops + ". Operation coverage: " + testSequence.operationCoverage());
+            }
+        } finally {
+            workers.shutdownNow();
         }
 
         Main.logReport("Loops (ODG traverse times): " + loops);
+        if (budget.isExhausted()) {
+            Main.logReport("Nominal fuzzing stopped: time budget spent after " + budget.getElapsed(TimeUnit.SECONDS) + "s.");
+        } else if (budget.hasPlateaued()) {
+            Main.logReport("Nominal fuzzing stopped: no coverage gain in the last " + Configuration.getPlateauLoops() + " loops.");
+        }
+
+        exportTestCases();
 
         return testSequence;
     }
 
-    @Override
-    public void generateTestBackground(String url, String filename) {
-        File file = new File(getTestOutPutPath());
-        file.mkdirs();
+    /**
+     * Restores the accepted testcases and Dictionary values of an interrupted session, and removes the operations
+     * that already passed from the ODG.
+     * @param ODG the ODG being traversed.
+     */
+    private void resume(OperationDependencyGraph ODG) {
+        List<TestInteraction> interactions = checkpoint.restore(ODG::getOperationNodeById, Main.getEnvironment().getGlobalDictionary());
 
-        String filePath = getTestOutPutPath() + filename;
-        addTestFile(filePath);
+        for (TestInteraction interaction : interactions) {
+            setRequestInfo(interaction, serverUrls.get(0));
+            addTestCase(interaction);
+        }
+        interactions.forEach(interaction -> ODG.removeVertex(interaction.getOperation()));
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("Feature: ").append(filename.contains("Server") ? filename.substring(4, filename.indexOf(".")) + " nominal tests\n" : "Nominal tests\n");
-        sb.append("\n\tBackground:\n\t\tGiven url '" + url + "'");
+        if (!interactions.isEmpty()) {
+            Main.logReport("Resumed from " + checkpoint.getPath() + ": " + interactions.size()
+                    + " testcases. Operation coverage: " + testSequence.operationCoverage());
+        }
+    }
 
-        try {
-            FileWriter myWriter = new FileWriter(filePath, true);
-            myWriter.write(sb.toString());
-            myWriter.close();
-        } catch (IOException e) {
-            System.out.println("An error occurred. Could not create background condition");
-            e.printStackTrace();
+    private void saveCheckpoint() {
+        if (checkpoint != null) {
+            long start = System.nanoTime();
+            checkpoint.checkpoint(testSequence, Main.getEnvironment().getGlobalDictionary());
+            Metrics.record(Phase.FILE_WRITE, null, System.nanoTime() - start);
         }
     }
 
-    public boolean generateOperationTest(OperationNode operation) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("\n\n\t@").append(operation.getOperationId());
-        sb.append("\n\tScenario: ").append(operation.getOperationId());
+    /**
+     * Tests independent operations on the worker pool.
+     * @param operationNodes operations that do not depend on each other.
+     * @param workers the worker pool.
+     * @return successfully tested operations, in the given order.
+     */
+    private List<OperationNode> testConcurrently(List<OperationNode> operationNodes, ExecutorService workers) {
+        List<OperationNode> testedNodes = new ArrayList<>();
 
-        if (operation.containsHeader()) {
-            sb.append("\n\t\t* configure headers = {");
-            for(ParameterLeaf parameterLeaf : operation.getParameterLeafList()) {
-                if (parameterLeaf.getLocation() == ParameterLocation.HEADER)
-                    sb.append(generateHeaderInput(parameterLeaf));
+        if (operationNodes.size() == 1) {
+            if (testOperation(operationNodes.get(0))) {
+                testedNodes.add(operationNodes.get(0));
             }
-            sb.append(" }");
+            return testedNodes;
         }
 
-        String path = operation.getPath();
-        for(ParameterLeaf parameterLeaf : operation.getParameterLeafList()) {
-            if (parameterLeaf.getLocation() == ParameterLocation.PATH || parameterLeaf.getLocation() == ParameterLocation.MISSING)
-//                if (parameterLeaf.isRequired() || Environment.getInstance().getRandom().nextInt(1, 10) > 3) // randomly select or drop non-required param. Not worked
-                    path = generatePathInput(parameterLeaf, path);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        operationNodes.forEach(operationNode -> tasks.add(() -> testOperation(operationNode)));
+
+        try {
+            List<Future<Boolean>> results = workers.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    if (results.get(i).get()) {
+                        testedNodes.add(operationNodes.get(i));
+                    }
+                } catch (ExecutionException e) {
+                    logger.warning("Exception raised when testing Operation " + operationNodes.get(i).getOperationId()
+                            + ": " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        sb.append("\n\t\tGiven path \"").append(path).append("\"");
 
-        for(ParameterLeaf parameterLeaf : operation.getParameterLeafList()) {
-            if (parameterLeaf.getLocation() == ParameterLocation.QUERY)
-//                if (parameterLeaf.isRequired() || Environment.getInstance().getRandom().nextInt(1, 10) > 3) // randomly select or drop non-required param. Not worked
-                    sb.append(generateQueryInput(parameterLeaf));
+        return testedNodes;
+    }
+
+    /**
+     * Fuzzes an operation until a testcase is accepted or its attempts of this loop are used.
+     * Operations tried in previous loops only get all the fuzzing times again if the Dictionary gained values
+     * for their inputs.
+     * @param operationNode the operation.
+     * @return true if a testcase of the operation has been accepted.
+     */
+    private boolean testOperation(OperationNode operationNode) {
+        int attempts = budget.allocateAttempts(operationNode, Environment.getConfiguration().getMaxFuzzingTimes().intValue());
+        // An operation is tested by one thread at a time, drawing from its own stream whichever thread it is
+        Main.getEnvironment().setThreadRandom(randomStreams.computeIfAbsent(operationNode.getOperationId(),
+                id -> Main.getEnvironment().getRootRandom().split("operation " + id)));
+
+        try {
+            while (operationNode.getTestedTimes() < attempts
+                    && !budget.isLoopExhausted() && !budget.isOperationExhausted(operationNode)) {
+                long start = System.nanoTime();
+                boolean success = generateOperationTest(operationNode);
+                budget.spend(operationNode, System.nanoTime() - start);
+                operationNode.markAsTested();
+
+                if (success) {
+                    return true;
+                }
+            }
+        } finally {
+            operationNode.resetTestedTimes();
+            Main.getEnvironment().setThreadRandom(null);
         }
 
-        for(ParameterLeaf parameterLeaf : operation.getParameterLeafList()) {
-            if (parameterLeaf.getLocation() == ParameterLocation.REQUEST_BODY)
-//                if (parameterLeaf.isRequired() || Environment.getInstance().getRandom().nextInt(1, 10) > 3) // randomly select or drop non-required param. Not worked
-                    sb.append(generateBodyInput(parameterLeaf));
+        return false;
+    }
+
+    /**
+     * Splits semantically sorted operations into consecutive groups having the same HTTP method.
+     */
+    private static List<List<OperationNode>> groupByMethod(List<OperationNode> sortedNodes) {
+        List<List<OperationNode>> stages = new ArrayList<>();
+        HttpMethod currentMethod = null;
+
+        for (OperationNode operationNode : sortedNodes) {
+            if (stages.isEmpty() || operationNode.getMethod() != currentMethod) {
+                stages.add(new ArrayList<>());
+                currentMethod = operationNode.getMethod();
+            }
+            stages.get(stages.size() - 1).add(operationNode);
         }
 
-        sb.append("\n\t\tWhen method ").append(operation.getMethod());
+        return stages;
+    }
 
-        String response_status = operation.getResponses().entrySet().stream()
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse("200");
-        sb.append("\n\t\tThen status ").append(response_status.contains("default") ? "200" : response_status);
-        sb.append("\n\t\tAnd print response");
+    @Override
+    public void generateTestBackground(String url, String filename) {
+        String title = filename.contains("Server") ? filename.substring(4, filename.indexOf(".")) + " nominal tests" : "Nominal tests";
+        addFeatureDocument(getTestOutPutPath() + filename, new FeatureDocument(title, url));
+    }
 
-        for (String filename : getTestFiles()) {
-            try {
-                FileWriter myWriter = new FileWriter(filename, true);
-                myWriter.write(sb.toString());
-                myWriter.close();
-            } catch (IOException e) {
-                System.out.println("An error occurred. Could not write testcases to file " + filename);
-                e.printStackTrace();
-            }
+    public boolean generateOperationTest(OperationNode operation) {
+        List<DictionaryEntry> pendingEntries = new LinkedList<>();
+
+        long start = System.nanoTime();
+        for(ParameterLeaf parameterLeaf : operation.getParameterLeafList()) {
+            ParameterLocation location = parameterLeaf.getLocation();
+            if (location == ParameterLocation.HEADER || location == ParameterLocation.PATH || location == ParameterLocation.MISSING
+                    || location == ParameterLocation.QUERY || location == ParameterLocation.REQUEST_BODY)
+//                if (parameterLeaf.isRequired() || Environment.getInstance().getRandom().nextInt(1, 10) > 3) // randomly select or drop non-required param. Not worked
+                    generateInput(parameterLeaf, pendingEntries);
         }
 
-        boolean statusCodePassed = getStatusCodeOracle().assessOperationTest(operation, getNominalTestPaths());
+        Metrics.record(Phase.VALUE_GENERATION, operation, System.nanoTime() - start);
+
+        TestInteraction interaction = new TestInteraction(operation, pendingEntries);
+        setRequestInfo(interaction, serverUrls.get(0));
+        requestExecutor.execute(interaction);
+
+        start = System.nanoTime();
+        boolean statusCodePassed = getStatusCodeOracle().assessOperationTest(interaction);
+        Metrics.record(Phase.ORACLE_ASSESSMENT, operation, System.nanoTime() - start);
 
         if (statusCodePassed) {
-            // add pending entries of successfully generated testcases to Dictionary
+            // add pending entries of successfully generated testcases to Dictionary, pinned so that they are never evicted
             pendingEntries.forEach(dictionaryEntry -> {
-                Main.getEnvironment().getGlobalDictionary().addEntry(dictionaryEntry);
+                Main.getEnvironment().getGlobalDictionary().addPinnedEntry(dictionaryEntry);
             });
 
-            // generate new test interaction
-            testSequence.append(new TestInteraction(operation, pendingEntries));
+            addTestCase(interaction);
         }
 
-        pendingEntries.clear();
-
         return statusCodePassed;
     }
 
-    public String generatePathInput(ParameterLeaf parameterLeaf, String path) {
-        Object value = this.parameterValueProvider.provideValueFor(parameterLeaf);
-        path = path.replace("{" + parameterLeaf.getName() + "}", value.toString());
+    /**
+     * Provides a value for a parameter and keeps it as a pending entry until the test is assessed.
+     * @param parameterLeaf the parameter.
+     * @param pendingEntries entries of the testcase being generated.
+     * @return the value.
+     */
+    public Object generateInput(ParameterLeaf parameterLeaf, List<DictionaryEntry> pendingEntries) {
+        Object value = authenticationInfo != null && parameterLeaf.getLocation() != ParameterLocation.PATH
+                && parameterLeaf.getLocation() != ParameterLocation.MISSING && authenticationInfo.isAuthParam(parameterLeaf.getName().toString(), parameterLeaf.getLocation()) ?
+                authenticationInfo.getAuthValue(null) : this.parameterValueProvider.provideValueFor(parameterLeaf);
 
         pendingEntries.add(new DictionaryEntry(parameterLeaf, value));
 
-        return path;
+        return value;
     }
 
-    public String generateQueryInput(ParameterLeaf parameterLeaf) {
-        StringBuilder input = new StringBuilder();
-        Object value = authenticationInfo != null && authenticationInfo.isAuthParam(parameterLeaf.getName().toString(), parameterLeaf.getLocation()) ?
-                authenticationInfo.getAuthValue(null) : this.parameterValueProvider.provideValueFor(parameterLeaf);
-        input.append("\n\t\tAnd param ").append(parameterLeaf.getName().toString()).append(" = ");
-        input.append("\"").append(value).append("\"");
+    @Override
+    public String generateScenario(TestInteraction interaction) {
+        OperationNode operation = interaction.getOperation();
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n\n\t@").append(operation.getOperationId());
+        sb.append("\n\tScenario: ").append(operation.getOperationId());
 
-        pendingEntries.add(new DictionaryEntry(parameterLeaf, value));
+        if (interaction.hasTag(RequestExecutor.LENGTH_REQUIRED_TAG)) {
+            sb.append("\n\t\tGiven header content-length = 0");
+        }
 
-        return input.toString();
-    }
+        if (operation.containsHeader()) {
+            sb.append("\n\t\t* configure headers = {");
+            for (DictionaryEntry entry : interaction.getRequestInputs()) {
+                if (entry.getSource().getLocation() == ParameterLocation.HEADER)
+                    sb.append(generateHeaderInput(entry));
+            }
+            sb.append(" }");
+        }
 
-    public String generateHeaderInput(ParameterLeaf parameterLeaf) {
-        StringBuilder input = new StringBuilder();
-        Object value = authenticationInfo != null && authenticationInfo.isAuthParam(parameterLeaf.getName().toString(), parameterLeaf.getLocation()) ?
-                authenticationInfo.getAuthValue(null) : this.parameterValueProvider.provideValueFor(parameterLeaf);
-        input.append(" '").append(parameterLeaf.getName().toString()).append("' : ");
-        input.append("'").append(value).append("',");
+        sb.append("\n\t\tGiven path \"").append(generatePath(interaction, false)).append("\"");
 
-        pendingEntries.add(new DictionaryEntry(parameterLeaf, value));
+        for (DictionaryEntry entry : interaction.getRequestInputs()) {
+            if (entry.getSource().getLocation() == ParameterLocation.QUERY)
+                sb.append(generateQueryInput(entry));
+        }
 
-        return input.toString();
+        if (interaction.getRequestBody() != null) {
+            sb.append("\n\t\tAnd request ").append(interaction.getRequestBody());
+        }
+
+        sb.append("\n\t\tWhen method ").append(operation.getMethod());
+        sb.append("\n\t\tThen status ").append(NominalTestOracle.getExpectedStatus(operation));
+        sb.append("\n\t\tAnd print response");
+
+        return sb.toString();
     }
 
-    public String generateBodyInput(ParameterLeaf parameterLeaf) {
-        StringBuilder input = new StringBuilder();
-        Object value = authenticationInfo != null && authenticationInfo.isAuthParam(parameterLeaf.getName().toString(), parameterLeaf.getLocation()) ?
-                authenticationInfo.getAuthValue(null) : this.parameterValueProvider.provideValueFor(parameterLeaf);
-        input.append("\n\t\tAnd request { ").append(parameterLeaf.getName().toString()).append(": ");
-        input.append("\"").append(value).append("\" }");
+    public String generateQueryInput(DictionaryEntry entry) {
+        return "\n\t\tAnd param " + entry.getSource().getName().toString() + " = " +
+                "\"" + entry.getValue() + "\"";
+    }
 
-        pendingEntries.add(new DictionaryEntry(parameterLeaf, value));
+    public String generateHeaderInput(DictionaryEntry entry) {
+        return " '" + entry.getSource().getName().toString() + "' : " +
+                "'" + entry.getValue() + "',";
+    }
 
-        return input.toString();
+    public SessionCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void setCheckpoint(SessionCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
     }
 
     public List<String> getNominalTestPaths() {
@@ -245,12 +372,4 @@ public class NominalTestGenerator extends TestGenerator {
     public void setNominalTestPaths(List<String> nominalTestPaths) {
         this.nominalTestPaths = nominalTestPaths;
     }
-
-    public List<DictionaryEntry> getPendingEntries() {
-        return pendingEntries;
-    }
-
-    public void setPendingEntries(List<DictionaryEntry> pendingEntries) {
-        this.pendingEntries = pendingEntries;
-    }
 }
@@ -0,0 +1,279 @@
+package io.testrest.core.testGenerator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.testrest.core.dictionary.Dictionary;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.testing.TestInteraction;
+import io.testrest.core.testing.TestSequence;
+import io.testrest.datatype.HttpStatusCode;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLeaf;
+import io.testrest.datatype.parameter.ParameterType;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Append-only log of the state of a testing session, from which an interrupted session is resumed.
+ * Each line is a JSON record: the accepted test interactions and the values added to the Dictionary since the
+ * previous checkpoint. Resuming replays the records, so operations that already passed are not tested again.
+ * A last line cut by the end of the process is dropped.
+ */
+public class SessionCheckpoint implements Closeable {
+    private static final Logger logger = Logger.getLogger(SessionCheckpoint.class.getName());
+
+    public static final String FILE_NAME = "checkpoint.log";
+
+    private static final String TEST_RECORD = "test";
+    private static final String ENTRY_RECORD = "entry";
+
+    private final Path path;
+    private final List<JsonObject> records = new ArrayList<>();
+    private final FileOutputStream stream;
+    private final Writer writer;
+
+    // Number of interactions of the test sequence and of Dictionary insertions already in the log
+    private int checkpointedInteractions = 0;
+    private long checkpointedEntries = 0;
+
+    /**
+     * Opens the log of a session, reading the records of the existing log if any.
+     * @param path path to the log.
+     * @throws IOException if the log cannot be read or opened for appending.
+     */
+    public SessionCheckpoint(Path path) throws IOException {
+        this.path = path;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+
+        if (Files.isRegularFile(path)) {
+            read();
+        }
+
+        stream = new FileOutputStream(path.toFile(), true);
+        writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+    }
+
+    private void read() throws IOException {
+        byte[] content = Files.readAllBytes(path);
+
+        // Drop the last record if the process stopped while writing it
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        if (end < content.length) {
+            logger.warning("Dropping the incomplete last record of checkpoint " + path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+
+        for (String line : new String(content, 0, end, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isBlank()) continue;
+            try {
+                records.add(JsonParser.parseString(line).getAsJsonObject());
+            } catch (JsonParseException | IllegalStateException e) {
+                logger.warning("Skipping unreadable record of checkpoint " + path + ": " + line);
+            }
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return true if the log holds records of a previous run.
+     */
+    public boolean hasRecords() {
+        return !records.isEmpty();
+    }
+
+    /**
+     * Adds the logged values to the Dictionary and rebuilds the logged test interactions.
+     * Values and interactions logged after this call are those added to the Dictionary and test sequence later on.
+     * @param operations operations by ID.
+     * @param dictionary the Dictionary.
+     * @return the accepted interactions of the previous runs, in order.
+     */
+    public List<TestInteraction> restore(Function<String, OperationNode> operations, Dictionary dictionary) {
+        List<TestInteraction> interactions = new ArrayList<>();
+
+        for (JsonObject record : records) {
+            try {
+                if (ENTRY_RECORD.equals(getString(record, "t"))) {
+                    DictionaryEntry entry = decodeEntry(record, operations);
+                    if (entry.getValue() != null && record.has("pinned") && record.get("pinned").getAsBoolean()) {
+                        dictionary.addPinnedEntry(entry);
+                    } else if (entry.getValue() != null) {
+                        dictionary.addEntry(entry);
+                    }
+                } else if (TEST_RECORD.equals(getString(record, "t"))) {
+                    TestInteraction interaction = decodeInteraction(record, operations);
+                    if (interaction != null) {
+                        // Like in the run, the inputs of accepted interactions are pinned, including values logged
+                        // before they were pinned
+                        interaction.getRequestInputs().forEach(input -> {
+                            if (input.getValue() != null) {
+                                dictionary.addPinnedEntry(input);
+                            }
+                        });
+                        interactions.add(interaction);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Skipping invalid record of checkpoint " + path + ": " + record);
+            }
+        }
+
+        checkpointedInteractions = interactions.size();
+        checkpointedEntries = dictionary.getInsertions();
+        return interactions;
+    }
+
+    /**
+     * Appends the interactions and Dictionary values added since the previous checkpoint, and syncs the log to disk.
+     * @param testSequence accepted interactions of the session.
+     * @param dictionary the Dictionary.
+     */
+    public synchronized void checkpoint(TestSequence testSequence, Dictionary dictionary) {
+        List<TestInteraction> interactions;
+        synchronized (testSequence) {
+            interactions = new ArrayList<>(testSequence.subList(checkpointedInteractions, testSequence.size()));
+        }
+        long insertions = dictionary.getInsertions();
+        List<DictionaryEntry> entries = dictionary.getEntries(checkpointedEntries, insertions);
+
+        if (interactions.isEmpty() && entries.isEmpty()) {
+            checkpointedEntries = insertions;
+            return;
+        }
+
+        try {
+            // Entries first, so that a resumed session has the values the interactions produced
+            for (DictionaryEntry entry : entries) {
+                JsonObject record = encodeEntry(entry);
+                record.addProperty("t", ENTRY_RECORD);
+                if (dictionary.isPinned(entry)) {
+                    record.addProperty("pinned", true);
+                }
+                writer.write(record + "\n");
+            }
+            for (TestInteraction interaction : interactions) {
+                writer.write(encodeInteraction(interaction) + "\n");
+            }
+            writer.flush();
+            stream.getFD().sync();
+
+            checkpointedInteractions += interactions.size();
+            checkpointedEntries = insertions;
+        } catch (IOException e) {
+            logger.warning("Unable to write checkpoint " + path + "\n" + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static JsonObject encodeInteraction(TestInteraction interaction) {
+        JsonObject record = new JsonObject();
+        record.addProperty("t", TEST_RECORD);
+        record.addProperty("op", interaction.getOperation().getOperationId());
+        if (interaction.getResponseStatusCode() != null) {
+            record.addProperty("status", interaction.getResponseStatusCode().getCode());
+        }
+
+        JsonArray tags = new JsonArray();
+        interaction.getTags().forEach(tags::add);
+        record.add("tags", tags);
+
+        JsonArray inputs = new JsonArray();
+        interaction.getRequestInputs().forEach(input -> inputs.add(encodeEntry(input)));
+        record.add("inputs", inputs);
+        return record;
+    }
+
+    private static TestInteraction decodeInteraction(JsonObject record, Function<String, OperationNode> operations) {
+        OperationNode operation = operations.apply(getString(record, "op"));
+        if (operation == null) {
+            logger.warning("Operation " + getString(record, "op") + " of checkpoint record not found, skipping it.");
+            return null;
+        }
+
+        TestInteraction interaction = new TestInteraction(operation);
+        for (JsonElement input : record.getAsJsonArray("inputs")) {
+            interaction.addRequestInput(decodeEntry(input.getAsJsonObject(), operations));
+        }
+        for (JsonElement tag : record.getAsJsonArray("tags")) {
+            interaction.addTag(tag.getAsString());
+        }
+        if (record.has("status")) {
+            interaction.setResponseInfo(null, new HttpStatusCode(record.get("status").getAsInt()), null, null, null, null);
+        }
+        return interaction;
+    }
+
+    private static JsonObject encodeEntry(DictionaryEntry entry) {
+        JsonObject record = new JsonObject();
+        record.addProperty("name", entry.getParameterName().toString());
+        if (entry.getSource() != null && entry.getSource().getOperation() != null && entry.getSource().getLocation() != null) {
+            record.addProperty("op", entry.getSource().getOperation().getOperationId());
+            record.addProperty("in", entry.getSource().getLocation().name());
+        }
+        if (entry.getParameterType() != null) {
+            record.addProperty("type", entry.getParameterType().name());
+        }
+        if (entry.getValue() != null) {
+            record.addProperty("value", entry.getValue().toString());
+            record.addProperty("class", DictionaryEntry.getValueClass(entry.getValue()));
+        }
+        return record;
+    }
+
+    private static DictionaryEntry decodeEntry(JsonObject record, Function<String, OperationNode> operations) {
+        String name = getString(record, "name");
+        Object value = record.has("value") ? DictionaryEntry.parseValue(getString(record, "value"), getString(record, "class")) : null;
+
+        // Entries from the inputs of an operation keep their parameter as source
+        if (record.has("op")) {
+            OperationNode operation = operations.apply(getString(record, "op"));
+            ParameterLeaf leaf = operation == null ? null : findLeaf(operation, name, getString(record, "in"));
+            if (leaf != null) {
+                return new DictionaryEntry(leaf, value);
+            }
+        }
+
+        DictionaryEntry entry = new DictionaryEntry(name, value);
+        if (record.has("type")) {
+            entry.setParameterType(ParameterType.valueOf(getString(record, "type")));
+        }
+        return entry;
+    }
+
+    private static ParameterLeaf findLeaf(OperationNode operation, String name, String location) {
+        for (ParameterLeaf leaf : operation.getParameterLeafList()) {
+            if (leaf.getName().toString().equals(name) && leaf.getLocation() != null && leaf.getLocation().name().equals(location)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    private static String getString(JsonObject record, String member) {
+        return record.has(member) && !record.get(member).isJsonNull() ? record.get(member).getAsString() : null;
+    }
+}
@@ -1,42 +1,148 @@
 package io.testrest.core.testGenerator;
 
+import com.google.gson.JsonObject;
 import io.testrest.Environment;
 import io.testrest.boot.AuthenticationInfo;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.metrics.Metrics;
+import io.testrest.core.metrics.Phase;
 import io.testrest.core.oracle.StatusCodeOracle;
+import io.testrest.core.testing.RequestExecutor;
+import io.testrest.core.testing.TestInteraction;
 import io.testrest.core.testing.TestSequence;
+import io.testrest.datatype.parameter.ParameterLocation;
+import io.testrest.helper.RunLog;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public abstract class TestGenerator {
 
     private String testOutPutPath;
 
-    private static List<String> testFiles;
+    // Feature files of the generator, by path
+    private final Map<String, FeatureDocument> featureDocuments = new LinkedHashMap<>();
 
     protected TestSequence testSequence;
 
     private StatusCodeOracle statusCodeOracle;
 
+    protected final RequestExecutor requestExecutor = new RequestExecutor();
+
     protected AuthenticationInfo authenticationInfo = Environment.getConfiguration().getAuthenticationInfo();
 
     public TestGenerator() {
-        testFiles = new ArrayList<>();
         testSequence = new TestSequence();
     }
 
     public abstract void generateTestBackground(String url, String filename);
 
-    public static List<String> getTestFiles() {
-        return testFiles;
+    /**
+     * Karate scenario reproducing a test interaction.
+     * @param interaction the interaction to export.
+     * @return the scenario text.
+     */
+    public abstract String generateScenario(TestInteraction interaction);
+
+    /**
+     * Adds an accepted interaction to the test sequence and its scenario to the feature documents.
+     * @param interaction the accepted interaction.
+     */
+    protected void addTestCase(TestInteraction interaction) {
+        synchronized (testSequence) {
+            testSequence.append(interaction);
+        }
+
+        String scenario = generateScenario(interaction);
+        featureDocuments.values().forEach(document -> document.addScenario(scenario));
+    }
+
+    /**
+     * Writes the feature documents to their files, each in one go.
+     */
+    public void exportTestCases() {
+        featureDocuments.forEach((path, document) -> {
+            long start = System.nanoTime();
+            try {
+                document.write(Paths.get(path));
+                Metrics.record(Phase.FILE_WRITE, null, System.nanoTime() - start);
+            } catch (IOException e) {
+                RunLog.error("testcases.write", "An error occurred. Could not write testcases to file " + path + "\n" + e, "path", path);
+            }
+        });
+    }
+
+    /**
+     * Sets method, URL, headers and body of the request from the inputs of an interaction.
+     * @param interaction the interaction to be executed.
+     * @param serverUrl url of the server the request is sent to.
+     */
+    public void setRequestInfo(TestInteraction interaction, String serverUrl) {
+        StringBuilder url = new StringBuilder(serverUrl.endsWith("/") ? serverUrl.substring(0, serverUrl.length() - 1) : serverUrl);
+        url.append(generatePath(interaction, true));
+
+        StringBuilder query = new StringBuilder();
+        StringBuilder headers = new StringBuilder();
+        JsonObject body = null;
+
+        for (DictionaryEntry entry : interaction.getRequestInputs()) {
+            if (entry.getSource() == null) continue;
+
+            String name = entry.getSource().getName().toString();
+            String value = String.valueOf(entry.getValue());
+            switch (entry.getSource().getLocation()) {
+                case QUERY:
+                    query.append(query.length() == 0 ? "?" : "&").append(encode(name)).append("=").append(encode(value));
+                    break;
+                case HEADER:
+                    headers.append(name).append(": ").append(value).append("\n");
+                    break;
+                case REQUEST_BODY:
+                    if (body == null) body = new JsonObject();
+                    body.addProperty(name, value);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        interaction.setRequestInfo(interaction.getOperation().getMethod(), url.append(query).toString(),
+                headers.length() > 0 ? headers.toString() : null, body != null ? body.toString() : null);
+    }
+
+    /**
+     * Replaces path parameters of the operation's path with the values of the interaction.
+     * @param interaction the interaction.
+     * @param encoded true to URL-encode the values.
+     * @return the path.
+     */
+    public String generatePath(TestInteraction interaction, boolean encoded) {
+        String path = interaction.getOperation().getPath();
+        for (DictionaryEntry entry : interaction.getRequestInputs()) {
+            if (entry.getSource() == null) continue;
+
+            if (entry.getSource().getLocation() == ParameterLocation.PATH || entry.getSource().getLocation() == ParameterLocation.MISSING) {
+                String value = String.valueOf(entry.getValue());
+                path = path.replace("{" + entry.getSource().getName().toString() + "}", encoded ? encode(value) : value);
+            }
+        }
+        return path;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
     }
 
-    public static void setTestFiles(List<String> testFiles) {
-        TestGenerator.testFiles = testFiles;
+    public Map<String, FeatureDocument> getFeatureDocuments() {
+        return featureDocuments;
     }
 
-    public static void addTestFile(String testFile) {
-        testFiles.add(testFile);
+    public void addFeatureDocument(String path, FeatureDocument document) {
+        featureDocuments.put(path, document);
     }
 
     public String getTestOutPutPath() {
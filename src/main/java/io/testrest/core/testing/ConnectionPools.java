@@ -0,0 +1,226 @@
+package io.testrest.core.testing;
+
+import io.testrest.Configuration;
+
+import javax.net.ssl.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * One HTTP client, and so one pool of kept-alive connections, for each server the requests are sent to, shared by
+ * the generation of testcases and the run of the test suite. Requests to the same server reuse its connections
+ * instead of opening a new one, and of doing a new TLS handshake, for each scenario. The redirect policy and the
+ * connect timeout are settings of the client, so a server has one client for each combination of them in use.
+ */
+public class ConnectionPools {
+    private static final Logger logger = Logger.getLogger(ConnectionPools.class.getName());
+
+    private static final Duration defaultConnectTimeout = Duration.ofSeconds(10);
+
+    private static final Map<String, Pool> pools = new ConcurrentSkipListMap<>();
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * Creates the pools of the servers in advance.
+     * @param urls server URLs of the specification.
+     */
+    public static void register(List<String> urls) {
+        for (String url : urls) {
+            try {
+                getPool(URI.create(url));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid server URL " + url + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sends a request over the pool of its server, following redirects.
+     * @param request the request.
+     * @param bodyHandler handler of the response body.
+     * @return the response.
+     */
+    public static <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        return send(request, bodyHandler, HttpClient.Redirect.NORMAL, defaultConnectTimeout);
+    }
+
+    /**
+     * Sends a request over the pool of its server, with the given client settings.
+     * @param request the request.
+     * @param bodyHandler handler of the response body.
+     * @param redirect redirect policy.
+     * @param connectTimeout timeout of opening a new connection.
+     * @return the response.
+     */
+    public static <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, HttpClient.Redirect redirect,
+                                           Duration connectTimeout) throws IOException, InterruptedException {
+        Pool pool = getPool(request.uri());
+        pool.requests.incrementAndGet();
+        HttpResponse<T> response = pool.getClient(redirect, connectTimeout).send(request, bodyHandler);
+        if (response.version() == HttpClient.Version.HTTP_2) {
+            pool.http2Responses.incrementAndGet();
+        }
+        return response;
+    }
+
+    /**
+     * @return statistics of the pool of each server, by server.
+     */
+    public static Map<String, String> getStats() {
+        Map<String, String> stats = new ConcurrentSkipListMap<>();
+        pools.forEach((server, pool) -> stats.put(server, pool.toString()));
+        return stats;
+    }
+
+    private static Pool getPool(URI uri) {
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+        int port = uri.getPort() != -1 ? uri.getPort() : scheme.equals("https") ? 443 : 80;
+        return pools.computeIfAbsent(scheme + "://" + uri.getHost() + ":" + port, server -> new Pool(scheme.equals("https")));
+    }
+
+    private static HttpClient.Builder newClientBuilder(HttpClient.Redirect redirect, Duration connectTimeout) {
+        // Read by the HTTP client once, when the first client is built
+        if (Configuration.getConnectionPoolSize() > 0 && System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(Configuration.getConnectionPoolSize()));
+        }
+        if (Configuration.getKeepAliveSeconds() > 0 && System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", String.valueOf(Configuration.getKeepAliveSeconds()));
+        }
+
+        return HttpClient.newBuilder()
+                .version(Configuration.getHttpVersion())
+                .connectTimeout(connectTimeout)
+                .followRedirects(redirect);
+    }
+
+    private static class Pool {
+        // Clients by redirect policy and connect timeout, almost always a single one
+        private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+        private final boolean secure;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong http2Responses = new AtomicLong();
+        // The client creates one SSL engine for each new TLS connection, so for each full or resumed handshake
+        private final AtomicLong handshakes = new AtomicLong();
+
+        private final SSLContext sslContext;
+
+        private Pool(boolean secure) {
+            this.secure = secure;
+            SSLContext context = null;
+            if (secure) {
+                try {
+                    context = new CountingSSLContext(SSLContext.getDefault(), handshakes);
+                } catch (NoSuchAlgorithmException e) {
+                    logger.warning("Unable to count TLS handshakes: " + e.getMessage());
+                }
+            }
+            sslContext = context;
+        }
+
+        private HttpClient getClient(HttpClient.Redirect redirect, Duration connectTimeout) {
+            return clients.computeIfAbsent(redirect + " " + connectTimeout.toMillis(), settings -> {
+                HttpClient.Builder builder = newClientBuilder(redirect, connectTimeout);
+                if (sslContext != null) {
+                    builder.sslContext(sslContext);
+                }
+                return builder.build();
+            });
+        }
+
+        @Override
+        public String toString() {
+            long requestCount = requests.get();
+            StringBuilder sb = new StringBuilder().append(requestCount).append(" requests, ")
+                    .append(http2Responses.get()).append(" over HTTP/2");
+            if (secure) {
+                long connections = handshakes.get();
+                double reuse = requestCount == 0 ? 0 : Math.max(0, 100. * (requestCount - connections) / requestCount);
+                sb.append(", ").append(connections).append(" TLS handshakes, ")
+                        .append(String.format("%.1f", reuse)).append("% requests over reused connections");
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * SSL context counting the SSL engines created by the default context.
+     */
+    static class CountingSSLContext extends SSLContext {
+
+        CountingSSLContext(SSLContext delegate, AtomicLong engines) {
+            super(new CountingSSLContextSpi(delegate, engines), delegate.getProvider(), delegate.getProtocol());
+        }
+    }
+
+    private static class CountingSSLContextSpi extends SSLContextSpi {
+        private final SSLContext delegate;
+        private final AtomicLong engines;
+
+        private CountingSSLContextSpi(SSLContext delegate, AtomicLong engines) {
+            this.delegate = delegate;
+            this.engines = engines;
+        }
+
+        @Override
+        protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr) throws KeyManagementException {
+            delegate.init(km, tm, sr);
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            engines.incrementAndGet();
+            return delegate.createSSLEngine();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            engines.incrementAndGet();
+            return delegate.createSSLEngine(host, port);
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        @Override
+        protected SSLParameters engineGetDefaultSSLParameters() {
+            return delegate.getDefaultSSLParameters();
+        }
+
+        @Override
+        protected SSLParameters engineGetSupportedSSLParameters() {
+            return delegate.getSupportedSSLParameters();
+        }
+    }
+}
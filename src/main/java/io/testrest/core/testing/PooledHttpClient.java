@@ -0,0 +1,96 @@
+package io.testrest.core.testing;
+
+import com.intuit.karate.KarateException;
+import com.intuit.karate.core.Config;
+import com.intuit.karate.core.ScenarioEngine;
+import com.intuit.karate.http.ApacheHttpClient;
+import com.intuit.karate.http.HttpClient;
+import com.intuit.karate.http.HttpLogger;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Karate HTTP client sending the requests of a scenario over the connection pools of the servers, instead of a new
+ * client for each scenario. Scenarios configuring SSL, a proxy or a local address are run by Karate's own client.
+ * The configured redirect policy and connect timeout select the client of the pool the requests are sent with.
+ */
+public class PooledHttpClient implements HttpClient {
+
+    private final ScenarioEngine engine;
+    private final HttpLogger httpLogger;
+    private Config config;
+    private HttpClient karateClient;
+
+    public PooledHttpClient(ScenarioEngine engine) {
+        this.engine = engine;
+        this.httpLogger = new HttpLogger(engine.logger);
+        this.config = engine.getConfig();
+    }
+
+    @Override
+    public void setConfig(Config config) {
+        this.config = config;
+        if (karateClient != null) {
+            karateClient.setConfig(config);
+        }
+    }
+
+    @Override
+    public Config getConfig() {
+        return config;
+    }
+
+    @Override
+    public Response invoke(HttpRequest request) {
+        if (config.isSslEnabled() || config.getProxyUri() != null || config.getLocalAddress() != null) {
+            if (karateClient == null) {
+                karateClient = new ApacheHttpClient(engine);
+                karateClient.setConfig(config);
+            }
+            return karateClient.invoke(request);
+        }
+
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(URI.create(request.getUrl()))
+                .timeout(Duration.ofMillis(config.getReadTimeout()));
+        if (request.getHeaders() != null) {
+            request.getHeaders().forEach((name, values) -> {
+                if (!RequestExecutor.restrictedHeaders.contains(name.toLowerCase())) {
+                    values.forEach(value -> builder.header(name, value));
+                }
+            });
+        }
+        builder.method(request.getMethod(), request.getBody() == null ? java.net.http.HttpRequest.BodyPublishers.noBody()
+                : java.net.http.HttpRequest.BodyPublishers.ofByteArray(request.getBody()));
+
+        httpLogger.logRequest(config, request);
+        request.setStartTime(System.currentTimeMillis());
+        HttpResponse<byte[]> httpResponse;
+        try {
+            httpResponse = ConnectionPools.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray(),
+                    config.isFollowRedirects() ? java.net.http.HttpClient.Redirect.NORMAL : java.net.http.HttpClient.Redirect.NEVER,
+                    Duration.ofMillis(config.getConnectTimeout()));
+        } catch (IOException e) {
+            throw new KarateException("http call failed: " + request.getUrl() + " " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KarateException("http call interrupted: " + request.getUrl(), e);
+        }
+        request.setEndTime(System.currentTimeMillis());
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        httpResponse.headers().map().forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+        Response response = new Response(httpResponse.statusCode(), headers, httpResponse.body());
+        response.setResponseTime(request.getEndTime() - request.getStartTime());
+        httpLogger.logResponse(config, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,137 @@
+package io.testrest.core.testing;
+
+import io.testrest.Environment;
+import io.testrest.core.metrics.Metrics;
+import io.testrest.core.metrics.Phase;
+import io.testrest.datatype.HttpStatusCode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+
+/**
+ * Sends a TestInteraction directly over HTTP and fills its response fields.
+ * Replaces running a whole Karate feature to execute a single request while generating testcases.
+ */
+public class RequestExecutor {
+
+    private static final Logger logger = Logger.getLogger(RequestExecutor.class.getName());
+
+    public static final String LENGTH_REQUIRED_TAG = "content-length";
+
+    // Headers managed by the HTTP client itself, setting them on a request is not allowed.
+    static final Set<String> restrictedHeaders = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final Duration requestTimeout = Duration.ofSeconds(30);
+
+    // Limits the number of requests in flight to the same host, shared by all executors.
+    private static final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public RequestExecutor() {
+    }
+
+    /**
+     * Sends the request described by the interaction and stores the response in it.
+     * @param interaction interaction whose request info (method, URL, headers, body) is set.
+     * @return the same interaction, with status EXECUTED, or ERROR if no response was received.
+     */
+    public TestInteraction execute(TestInteraction interaction) {
+        HttpRequest request;
+        try {
+            request = buildRequest(interaction);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Could not build request for " + interaction.getRequestURL() + ": " + e.getMessage());
+            interaction.setTestStatus(TestStatus.ERROR);
+            return interaction;
+        }
+
+        Semaphore permits = getHostPermits(request.uri());
+        Timestamp sentAt = null;
+        long start = 0;
+        try {
+            permits.acquire();
+            HttpResponse<String> response;
+            try {
+                sentAt = Timestamp.from(Instant.now());
+                start = System.nanoTime();
+                response = ConnectionPools.send(request, HttpResponse.BodyHandlers.ofString());
+            } finally {
+                permits.release();
+            }
+            Timestamp receivedAt = Timestamp.from(Instant.now());
+            Metrics.record(Phase.REQUEST_EXECUTION, interaction.getOperation(), System.nanoTime() - start);
+
+            interaction.setResponseInfo(response.version().toString(), new HttpStatusCode(response.statusCode()),
+                    formatHeaders(response.headers().map()), response.body(), sentAt, receivedAt);
+            Metrics.increment("responses_" + response.statusCode() / 100 + "xx", interaction.getOperation());
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Request to " + interaction.getRequestURL() + " failed: " + e.getMessage());
+            Metrics.increment("request_errors", interaction.getOperation());
+            interaction.setRequestSentAt(sentAt);
+            interaction.setTestStatus(TestStatus.ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interaction.setRequestSentAt(sentAt);
+            interaction.setTestStatus(TestStatus.ERROR);
+        }
+
+        return interaction;
+    }
+
+    private static Semaphore getHostPermits(URI uri) {
+        String host = uri.getHost() + ":" + uri.getPort();
+        return hostPermits.computeIfAbsent(host, key -> new Semaphore(Environment.getConfiguration() != null ?
+                Environment.getConfiguration().getMaxConcurrentRequestsPerHost() : Integer.MAX_VALUE, true));
+    }
+
+    private HttpRequest buildRequest(TestInteraction interaction) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(interaction.getRequestURL()))
+                .timeout(requestTimeout);
+
+        boolean hasContentType = false;
+        if (interaction.getRequestHeaders() != null) {
+            for (String line : interaction.getRequestHeaders().split("\n")) {
+                int separator = line.indexOf(':');
+                if (separator <= 0) continue;
+
+                String name = line.substring(0, separator).trim();
+                String value = line.substring(separator + 1).trim();
+                if (restrictedHeaders.contains(name.toLowerCase())) continue;
+
+                hasContentType |= name.equalsIgnoreCase("content-type");
+                builder.header(name, value);
+            }
+        }
+
+        HttpRequest.BodyPublisher body;
+        if (interaction.getRequestBody() != null) {
+            if (!hasContentType) {
+                builder.header("Content-Type", "application/json");
+            }
+            body = HttpRequest.BodyPublishers.ofString(interaction.getRequestBody());
+        } else if (interaction.hasTag(LENGTH_REQUIRED_TAG)) {
+            // An empty body makes the client send "Content-Length: 0"
+            body = HttpRequest.BodyPublishers.ofString("");
+        } else {
+            body = HttpRequest.BodyPublishers.noBody();
+        }
+
+        return builder.method(interaction.getRequestMethod().toString(), body).build();
+    }
+
+    private static String formatHeaders(Map<String, List<String>> headers) {
+        StringBuilder sb = new StringBuilder();
+        headers.forEach((name, values) -> values.forEach(value -> sb.append(name).append(": ").append(value).append("\n")));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package io.testrest.core.testing;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.intuit.karate.RuntimeHook;
+import com.intuit.karate.core.ScenarioRuntime;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Karate hook limiting the requests of the test suite, globally and per server: requests per second, and requests
+ * in flight to the same server. Scenarios run on Karate's threads, so the number of threads only bounds how many
+ * requests can wait here, while the limits of the API under test bound the suite time.
+ * A limit of 0 means no limit.
+ */
+public class SuiteThrottle implements RuntimeHook {
+    private static final Logger logger = Logger.getLogger(SuiteThrottle.class.getName());
+
+    private final int maxConcurrentRequestsPerServer;
+    private final double requestsPerSecondPerServer;
+    private final RateLimiter globalRateLimiter;
+
+    private final Map<String, Semaphore> serverPermits = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> serverRateLimiters = new ConcurrentHashMap<>();
+
+    // Permit held by the request of the current scenario thread
+    private final ThreadLocal<Semaphore> heldPermit = new ThreadLocal<>();
+    private final AtomicLong waitingNanos = new AtomicLong();
+
+    /**
+     * @param maxConcurrentRequestsPerServer requests in flight to the same server.
+     * @param requestsPerSecond requests per second to all servers.
+     * @param requestsPerSecondPerServer requests per second to the same server.
+     */
+    public SuiteThrottle(int maxConcurrentRequestsPerServer, double requestsPerSecond, double requestsPerSecondPerServer) {
+        this.maxConcurrentRequestsPerServer = maxConcurrentRequestsPerServer;
+        this.requestsPerSecondPerServer = requestsPerSecondPerServer;
+        this.globalRateLimiter = requestsPerSecond > 0 ? RateLimiter.create(requestsPerSecond) : null;
+    }
+
+    /**
+     * @return true if no limit is set, so the hook is not needed.
+     */
+    public boolean isUnlimited() {
+        return maxConcurrentRequestsPerServer <= 0 && requestsPerSecondPerServer <= 0 && globalRateLimiter == null;
+    }
+
+    @Override
+    public void beforeHttpCall(HttpRequest request, ScenarioRuntime sr) {
+        long start = System.nanoTime();
+        String server = getServer(request.getUrl());
+
+        if (globalRateLimiter != null) {
+            globalRateLimiter.acquire();
+        }
+        if (requestsPerSecondPerServer > 0) {
+            serverRateLimiters.computeIfAbsent(server, key -> RateLimiter.create(requestsPerSecondPerServer)).acquire();
+        }
+        if (maxConcurrentRequestsPerServer > 0) {
+            Semaphore permits = serverPermits.computeIfAbsent(server, key -> new Semaphore(maxConcurrentRequestsPerServer, true));
+            try {
+                permits.acquire();
+                heldPermit.set(permits);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        waitingNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    @Override
+    public void afterHttpCall(HttpRequest request, Response response, ScenarioRuntime sr) {
+        releasePermit();
+    }
+
+    @Override
+    public void afterScenario(ScenarioRuntime sr) {
+        // The request of the scenario may have failed before its response
+        releasePermit();
+    }
+
+    private void releasePermit() {
+        Semaphore permits = heldPermit.get();
+        if (permits != null) {
+            heldPermit.remove();
+            permits.release();
+        }
+    }
+
+    private static String getServer(String url) {
+        try {
+            URI uri = URI.create(url);
+            return uri.getHost() + ":" + uri.getPort();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            logger.fine("Unable to read the server of " + url);
+            return "";
+        }
+    }
+
+    /**
+     * @return total time requests waited for the limits, in milliseconds.
+     */
+    public long getWaitingMillis() {
+        return waitingNanos.get() / 1_000_000;
+    }
+}
@@ -8,6 +8,7 @@ import io.testrest.helper.Taggable;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -23,6 +24,7 @@ public class TestInteraction extends Taggable {
     private String requestBody;
     private Timestamp requestSentAt;
     private List<DictionaryEntry> requestInputs;
+    private transient boolean requestInputsShared; // True if the inputs are shared with a clone, and must be copied before a change
 
     // Response fields
     private String responseProtocol;
@@ -59,6 +61,20 @@ public class TestInteraction extends Taggable {
 
     }
 
+    /*
+     * Used by deepClone. The clone references the same operation, which is not modified by the tests, and shares the
+     * list of inputs until one of the two interactions changes it.
+     */
+    private TestInteraction(TestInteraction other) {
+        this.operation = other.operation;
+        this.requestURL = other.operation.getPath();
+        this.requestMethod = other.operation.getMethod();
+        this.requestInputs = other.requestInputs;
+        this.requestInputsShared = true;
+        other.requestInputsShared = true;
+        this.mutateInfo = "none";
+    }
+
     public TestInteraction(OperationNode operation, HttpMethod requestMethod, String requestURL, String requestHeaders, String requestBody, List<DictionaryEntry> requestInputs) {
         this.operation = operation;
         this.requestMethod = requestMethod;
@@ -174,16 +190,28 @@ public class TestInteraction extends Taggable {
 
     public void setRequestInputs(List<DictionaryEntry> requestInputs) {
         this.requestInputs = requestInputs;
+        this.requestInputsShared = false;
     }
 
+    /**
+     * @return a read-only view of the inputs. They can be changed with addRequestInput and removeInput.
+     */
     public List<DictionaryEntry> getRequestInputs() {
-        return requestInputs;
+        return Collections.unmodifiableList(requestInputs);
     }
 
     public void addRequestInput(DictionaryEntry dictionaryEntry) {
+        copyRequestInputsIfShared();
         requestInputs.add(dictionaryEntry);
     }
 
+    private void copyRequestInputsIfShared() {
+        if (requestInputsShared) {
+            requestInputs = new ArrayList<>(requestInputs);
+            requestInputsShared = false;
+        }
+    }
+
     public void setRequestInfo(HttpMethod httpMethod, String requestURL, String requestHeaders, String requestBody) {
         this.requestMethod = httpMethod;
         this.requestURL = requestURL;
@@ -218,7 +246,12 @@ public class TestInteraction extends Taggable {
         requestHeaders = null;
         requestBody = null;
         requestSentAt = null;
-        requestInputs.clear();
+        if (requestInputsShared) {
+            requestInputs = new ArrayList<>();
+            requestInputsShared = false;
+        } else {
+            requestInputs.clear();
+        }
 
         // Reset response info
         responseProtocol = null;
@@ -233,14 +266,17 @@ public class TestInteraction extends Taggable {
         return this;
     }
 
+    /**
+     * Creates a new, not executed, interaction with the same operation and inputs. Inputs are replaced rather than
+     * modified by the mutators, so they are shared with the original interaction.
+     * @return the clone.
+     */
     public TestInteraction deepClone() {
-        List<DictionaryEntry> newInputList = new ArrayList<>();
-        requestInputs.forEach(input -> newInputList.add(new DictionaryEntry(input.getSource(), input.getValue())));
-
-        return new TestInteraction((OperationNode) operation.deepClone(), newInputList);
+        return new TestInteraction(this);
     }
 
     public void removeInput(DictionaryEntry entry) {
+        copyRequestInputsIfShared();
         try {
             requestInputs.removeIf(input -> input.getSource().equals(entry.getSource()));
         } catch (NullPointerException e) {
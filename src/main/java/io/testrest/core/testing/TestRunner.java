@@ -1,6 +1,7 @@
 package io.testrest.core.testing;
 
 import com.intuit.karate.Results;
+import com.intuit.karate.Runner;
 import com.intuit.karate.junit5.Karate;
 import io.testrest.Environment;
 import net.masterthought.cucumber.Configuration;
@@ -14,24 +15,21 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.logging.Logger;
 
 public class TestRunner {
+    private static final Logger logger = Logger.getLogger(TestRunner.class.getName());
 
     public TestRunner() {
     }
 
-    @Karate.Test
-    public Results testOperation(String testPath, String operationId) {
-        return Karate.run(testPath).outputHtmlReport(false).outputCucumberJson(false).outputJunitXml(false).tags("@" + operationId).parallel(0);
-    }
-
     /**
      * Run all tests.
      * @param paths all nominal and error test paths from all servers.
      */
     @Karate.Test
     public void testAll(List<String> paths) {
-        Results results = Karate.run(paths.toArray(new String[0])).outputCucumberJson(true).outputHtmlReport(false).parallel(10); //.reportDir(path.substring(0, path.lastIndexOf("/")))
+        Results results = run(Karate.run(paths.toArray(new String[0])).outputCucumberJson(true).outputHtmlReport(false)); //.reportDir(path.substring(0, path.lastIndexOf("/")))
         generateReport(results.getReportDir());
     }
 
@@ -41,11 +39,34 @@ public class TestRunner {
      */
     @Karate.Test
     public void testAll(String path) {
-        Results results = Karate.run(path).outputCucumberJson(true).outputHtmlReport(false).parallel(5);
+        Results results = run(Karate.run(path).outputCucumberJson(true).outputHtmlReport(false));
         generateReport(results.getReportDir());
         Assertions.assertEquals(0, results.getFailCount(), results.getErrorMessages());
     }
 
+    /**
+     * Run the scenarios on the configured number of threads, within the configured request limits, over the
+     * connection pools of the servers.
+     * @param builder the Karate runner.
+     * @return results of the run.
+     */
+    private Results run(Runner.Builder builder) {
+        SuiteThrottle throttle = new SuiteThrottle(io.testrest.Configuration.getSuiteMaxConcurrentRequestsPerServer(),
+                io.testrest.Configuration.getSuiteRateLimit(), io.testrest.Configuration.getSuiteRateLimitPerServer());
+        if (!throttle.isUnlimited()) {
+            builder.hook(throttle);
+        }
+        if (io.testrest.Configuration.isSuitePooledConnections()) {
+            builder.clientFactory(PooledHttpClient::new);
+        }
+
+        Results results = builder.parallel(io.testrest.Configuration.getSuiteThreads());
+        if (!throttle.isUnlimited()) {
+            logger.info("Requests of the test suite waited " + throttle.getWaitingMillis() + " ms for the request limits.");
+        }
+        return results;
+    }
+
     /**
      * Create a Cucumber's visualized report.
      * @param karateOutputPath path to Karate report.
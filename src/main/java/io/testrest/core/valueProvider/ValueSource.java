@@ -0,0 +1,21 @@
+package io.testrest.core.valueProvider;
+
+/**
+ * Sources a value for a parameter can be taken from when several are applicable.
+ */
+public enum ValueSource {
+    DICTIONARY,
+    EXAMPLES,
+    DEFAULT,
+    RANDOM;
+
+    public static ValueSource getSource(String stringSource) {
+        for (ValueSource source : ValueSource.values()) {
+            if (source.name().equalsIgnoreCase(stringSource)) {
+                return source;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid value '" + stringSource + "' for value source.");
+    }
+}
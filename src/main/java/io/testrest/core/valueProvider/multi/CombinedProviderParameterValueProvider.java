@@ -4,13 +4,11 @@ import io.testrest.Configuration;
 import io.testrest.Environment;
 import io.testrest.Main;
 import io.testrest.core.valueProvider.FuzzingStrategy;
+import io.testrest.core.valueProvider.ValueSource;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.core.valueProvider.single.*;
 import io.testrest.core.valueProvider.ParameterValueProvider;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class CombinedProviderParameterValueProvider extends ParameterValueProvider {
     private Environment environment;
     protected NormalizedDictionaryParameterValueProvider normalizedDictionaryParameterValueProvider = new NormalizedDictionaryParameterValueProvider();
@@ -24,16 +22,17 @@ public class CombinedProviderParameterValueProvider extends ParameterValueProvid
         environment = Main.getEnvironment();
     }
 
+    /**
+     * Chooses the source of the value first, among the applicable ones and according to the weights configured for
+     * the fuzzing strategy, then generates a value from that source only.
+     */
     @Override
     public Object provideValueFor(ParameterLeaf parameterLeaf) {
-        List<Object> possibleValues = new ArrayList<>();
+        FuzzingStrategy strategy = Configuration.getFuzzingStrategy();
+        boolean dictionaryAvailable = normalizedDictionaryParameterValueProvider.countAvailableValuesFor(parameterLeaf) > 0;
 
-        if (normalizedDictionaryParameterValueProvider.countAvailableValuesFor(parameterLeaf) > 0) {
-            if (Configuration.getFuzzingStrategy() == FuzzingStrategy.DICTIONARY_FIRST) {
-                return normalizedDictionaryParameterValueProvider.provideValueFor(parameterLeaf);
-            }
-
-            possibleValues.add(normalizedDictionaryParameterValueProvider.provideValueFor(parameterLeaf));
+        if (dictionaryAvailable && strategy == FuzzingStrategy.DICTIONARY_FIRST) {
+            return normalizedDictionaryParameterValueProvider.provideValueFor(parameterLeaf);
         }
 
         if (parameterLeaf.isEnum()) {
@@ -42,21 +41,68 @@ public class CombinedProviderParameterValueProvider extends ParameterValueProvid
 
         Object valueFromRegex = regexParameterValueProvider.provideValueFor(parameterLeaf);
         if (valueFromRegex != null) {
-            System.out.println("REGEX VALUE: " + valueFromRegex);
             return valueFromRegex;
         }
 
-        if (parameterLeaf.getExamples() != null) {
-            possibleValues.add(examplesParameterValueProvider.provideValueFor(parameterLeaf));
+        ValueSource[] sources = new ValueSource[ValueSource.values().length];
+        int count = 0;
+        if (dictionaryAvailable) {
+            sources[count++] = ValueSource.DICTIONARY;
+        }
+        if (parameterLeaf.getExamples() != null && !parameterLeaf.getExamples().isEmpty()) {
+            sources[count++] = ValueSource.EXAMPLES;
         }
         if (parameterLeaf.getDefaultValue() != null) {
-            possibleValues.add(defaultParameterValueProvider.provideValueFor(parameterLeaf));
+            sources[count++] = ValueSource.DEFAULT;
+        }
+        sources[count++] = ValueSource.RANDOM;
+
+        switch (chooseSource(strategy, sources, count)) {
+            case DICTIONARY:
+                return normalizedDictionaryParameterValueProvider.provideValueFor(parameterLeaf);
+            case EXAMPLES:
+                return examplesParameterValueProvider.provideValueFor(parameterLeaf);
+            case DEFAULT:
+                return defaultParameterValueProvider.provideValueFor(parameterLeaf);
+            default:
+                return randomParameterValueProvider.provideValueFor(parameterLeaf);
+        }
+    }
+
+    /**
+     * Picks one of the applicable sources with probability proportional to its weight.
+     */
+    private ValueSource chooseSource(FuzzingStrategy strategy, ValueSource[] sources, int count) {
+        if (count == 1) {
+            return sources[0];
+        }
+
+        double[] weights = new double[count];
+        double totalWeight = 0;
+        for (int i = 0; i < count; i++) {
+            weights[i] = Configuration.getValueSourceWeight(strategy, sources[i]);
+            totalWeight += weights[i];
+        }
+
+        if (totalWeight <= 0) {
+            return ValueSource.RANDOM;
         }
-        possibleValues.add(randomParameterValueProvider.provideValueFor(parameterLeaf));
-        System.out.println(parameterLeaf.getName());
-        System.out.println(possibleValues);
 
-        return possibleValues.get(getEnvironment().getRandom().nextInt(0, possibleValues.size()));
+        double threshold = getEnvironment().getRandom().nextDouble() * totalWeight;
+        for (int i = 0; i < count; i++) {
+            threshold -= weights[i];
+            if (threshold < 0) {
+                return sources[i];
+            }
+        }
+
+        // Rounding errors, the last source with positive weight
+        for (int i = count - 1; i > 0; i--) {
+            if (weights[i] > 0) {
+                return sources[i];
+            }
+        }
+        return sources[0];
     }
 
     public Environment getEnvironment() {
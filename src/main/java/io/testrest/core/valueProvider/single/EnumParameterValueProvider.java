@@ -4,6 +4,7 @@ import io.testrest.Main;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.helper.ExtendedRandom;
 import io.testrest.core.valueProvider.CountableParameterValueProvider;
+import io.testrest.helper.RunLog;
 
 import java.util.stream.Collectors;
 
@@ -22,7 +23,7 @@ public class EnumParameterValueProvider extends CountableParameterValueProvider
     public Object provideValueFor(ParameterLeaf parameterLeaf) {
         ExtendedRandom random = Main.getEnvironment().getRandom();
         if (!strict) {
-            System.out.println(parameterLeaf.getNormalizedName());
+            RunLog.debug("value.enum", () -> "Non-strict enum value for " + parameterLeaf.getNormalizedName());
             return random.elementFromSet(parameterLeaf.getEnumValues());
         } else {
             return random.elementFromSet(parameterLeaf.getEnumValues().stream().filter(parameterLeaf::isValueCompliant)
@@ -4,6 +4,7 @@ import io.testrest.Main;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.core.dictionary.Dictionary;
 import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.dictionary.DictionaryStore;
 import io.testrest.helper.ExtendedRandom;
 import io.testrest.core.valueProvider.CountableParameterValueProvider;
 
@@ -15,8 +16,12 @@ public class NormalizedDictionaryParameterValueProvider extends CountableParamet
     // Get values from global dictionary by default
     private Dictionary dictionary = Main.getEnvironment().getGlobalDictionary();
 
+    // Values of previous runs, added to the dictionary when their name is first asked for
+    private DictionaryStore dictionaryStore = Main.getEnvironment().getDictionaryStore();
+
     @Override
     public int countAvailableValuesFor(ParameterLeaf parameterLeaf) {
+        loadStoredValues(parameterLeaf);
         if (!strict) {
             return dictionary.getEntriesByNormalizedParameterName(parameterLeaf.getNormalizedName(), parameterLeaf.getType()).size();
         } else {
@@ -27,6 +32,7 @@ public class NormalizedDictionaryParameterValueProvider extends CountableParamet
 
     @Override
     public Object provideValueFor(ParameterLeaf parameterLeaf) {
+        loadStoredValues(parameterLeaf);
         ExtendedRandom random = Main.getEnvironment().getRandom();
         Optional<DictionaryEntry> entry;
         if (!strict) {
@@ -40,6 +46,12 @@ public class NormalizedDictionaryParameterValueProvider extends CountableParamet
         return entry.get().getValue();
     }
 
+    private void loadStoredValues(ParameterLeaf parameterLeaf) {
+        if (dictionaryStore != null) {
+            dictionaryStore.load(parameterLeaf.getNormalizedName(), dictionary);
+        }
+    }
+
     /**
      * Set the dictionary from which the provider picks the value.
      * @param dictionary the dictionary from which the provider picks the value.
@@ -47,5 +59,12 @@ public class NormalizedDictionaryParameterValueProvider extends CountableParamet
     public void setDictionary(Dictionary dictionary) {
         this.dictionary = dictionary;
     }
+
+    /**
+     * Set the store of previous values, null to only use the dictionary.
+     */
+    public void setDictionaryStore(DictionaryStore dictionaryStore) {
+        this.dictionaryStore = dictionaryStore;
+    }
 }
 
@@ -6,10 +6,9 @@ import io.testrest.helper.ExtendedRandom;
 import io.testrest.core.valueProvider.ParameterValueProvider;
 
 public class RandomParameterValueProvider extends ParameterValueProvider {
-    private static final ExtendedRandom random = Main.getEnvironment().getRandom();
-
     @Override
     public Object provideValueFor(ParameterLeaf parameterLeaf) {
+        ExtendedRandom random = Main.getEnvironment().getRandom();
 
         if (parameterLeaf instanceof StringParameter) {
             return generateCompliantString((StringParameter) parameterLeaf);
@@ -36,6 +35,8 @@ public class RandomParameterValueProvider extends ParameterValueProvider {
     }
 
     private String generateCompliantString(StringParameter parameter) {
+        ExtendedRandom random = Main.getEnvironment().getRandom();
+
         // Generate a random length according to the provided bounds
         int length = random.nextLength(parameter.getMinLength(), parameter.getMaxLength());
 
@@ -118,6 +119,7 @@ public class RandomParameterValueProvider extends ParameterValueProvider {
     }
 
     private Number generateCompliantNumber(NumberParameter parameter) {
+        ExtendedRandom random = Main.getEnvironment().getRandom();
 
         // Get the actual format, or infer it
         ParameterTypeFormat format = parameter.inferFormat();
@@ -166,8 +168,6 @@ public class RandomParameterValueProvider extends ParameterValueProvider {
             // Set min and max value, if defined
             float min = parameter.getMinimum() != null ? parameter.getMinimum().floatValue() : -Float.MAX_VALUE;
             float max = parameter.getMaximum() != null ? parameter.getMaximum().floatValue() : Float.MAX_VALUE;
-            System.out.println(max);
-            System.out.println(min);
 
             // If min is not less than max, reset one of the two variables randomly
             if (min > max) {
@@ -1,26 +1,41 @@
 package io.testrest.core.valueProvider.single;
 
 import com.github.curiousoddman.rgxgen.RgxGen;
+import io.testrest.Main;
 import io.testrest.core.valueProvider.ParameterValueProvider;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.datatype.parameter.StringParameter;
+import io.testrest.helper.MemoCache;
 
 public class RegexParameterValueProvider extends ParameterValueProvider {
 
+    // Parsed generators, shared by all parameters (and mutators) using the same pattern
+    private static final MemoCache<String, RgxGen> generators = new MemoCache<>(1000);
+
     @Override
     public Object provideValueFor(ParameterLeaf parameterLeaf) {
         if (parameterLeaf instanceof StringParameter) {
             String pattern = ((StringParameter) parameterLeaf).getPattern();
-            System.out.println(pattern);
 
             if (pattern == null) {
                 return null;
             }
 
-            RgxGen rgxGen = RgxGen.parse(pattern);
-            return rgxGen.generate();
+            return getGenerator(pattern).generate(Main.getEnvironment().getRandom());
         }
 
         return null;
     }
+
+    /**
+     * @param pattern a regex pattern.
+     * @return the generator for the pattern, parsed only once.
+     */
+    public static RgxGen getGenerator(String pattern) {
+        return generators.get(pattern, RgxGen::parse);
+    }
+
+    public static MemoCache<String, RgxGen> getGenerators() {
+        return generators;
+    }
 }
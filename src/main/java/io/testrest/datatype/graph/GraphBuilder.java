@@ -1,11 +1,12 @@
 package io.testrest.datatype.graph;
 
 import io.testrest.Main;
-import io.testrest.datatype.normalizer.ParameterComparator;
+import io.testrest.datatype.parameter.NormalizedParameterName;
 import io.testrest.datatype.parameter.ParameterElement;
+import io.testrest.helper.RunLog;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.*;
 
 /**
  * Builds OperationDependencyGraph.
@@ -20,28 +21,58 @@ public class GraphBuilder {
             ODG.addVertex(operationNode);
         }
 
+        // Index producers by normalized output name, each output is normalized only once
+        Map<String, List<int[]>> producersByOutput = new HashMap<>();
+        for (int j = 0; j < operationNodeList.size(); j++) {
+            List<String> outputs = operationNodeList.get(j).getOutputs();
+            if (outputs == null) continue;
+
+            for (int k = 0; k < outputs.size(); k++) {
+                String key = caseInsensitiveKey(NormalizedParameterName.computeNormalizedName(outputs.get(k)));
+                producersByOutput.computeIfAbsent(key, x -> new ArrayList<>()).add(new int[] {j, k});
+            }
+        }
+
         // Identify parameter dependencies, add edges to ODG
         for (int i = 0; i < operationNodeList.size(); i++) {
-            if (operationNodeList.get(i).getParameters() != null)
-                for (int j = 0; j < operationNodeList.size(); j++) {
-                    if (i != j && operationNodeList.get(j).getOutputs() != null) {
-                        for (ParameterElement pi: operationNodeList.get(i).getParameterLeafList()) {
-                            for (String pj: operationNodeList.get(j).getOutputs()) {
-                                if (ParameterComparator.matchedNames(pi, pj)) {
-                                    ODG.addEdge(operationNodeList.get(i), operationNodeList.get(j), new DependencyEdge(pi.getNormalizedName().toString()));
-                                }
-                            }
-                        }
+            if (operationNodeList.get(i).getParameters() == null) continue;
+
+            // Matches as (producer, parameter, output) indexes, sorted to add edges in the order of the pairwise comparison
+            List<int[]> matches = new ArrayList<>();
+            List<ParameterElement> parameters = new ArrayList<>(operationNodeList.get(i).getParameterLeafList());
+            for (int p = 0; p < parameters.size(); p++) {
+                String key = caseInsensitiveKey(parameters.get(p).getNormalizedName().toString());
+                for (int[] producer : producersByOutput.getOrDefault(key, List.of())) {
+                    if (producer[0] != i) {
+                        matches.add(new int[] {producer[0], p, producer[1]});
                     }
                 }
+            }
+            matches.sort(Comparator.<int[]>comparingInt(m -> m[0]).thenComparingInt(m -> m[1]).thenComparingInt(m -> m[2]));
+
+            for (int[] match : matches) {
+                ParameterElement pi = parameters.get(match[1]);
+                ODG.addEdge(operationNodeList.get(i), operationNodeList.get(match[0]), new DependencyEdge(pi.getNormalizedName().toString()));
+            }
         }
 
         try {
             ODG.exportToFile();
         } catch (IOException e) {
-            System.out.println("Error occurred when export ODG to file.");
+            RunLog.warning("graph.export", "Error occurred when export ODG to file: " + e.getMessage());
         }
 
-        System.out.println(ODG.toMatrix());
+        RunLog.debug("graph.matrix", ODG::toMatrix);
+    }
+
+    /**
+     * Maps a name so that two names are equal ignoring case (as in String.equalsIgnoreCase) iff their keys are equal.
+     */
+    private static String caseInsensitiveKey(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 }
@@ -1,7 +1,11 @@
 package io.testrest.datatype.graph;
 
 import io.testrest.Main;
+import io.testrest.datatype.parameter.ParameterLeaf;
 import org.jgrapht.Graph;
+import org.jgrapht.alg.connectivity.KosarajuStrongConnectivityInspector;
+import org.jgrapht.graph.AsSubgraph;
+import org.jgrapht.graph.AsUnmodifiableGraph;
 import org.jgrapht.graph.DirectedMultigraph;
 import org.jgrapht.nio.Attribute;
 import org.jgrapht.nio.DefaultAttribute;
@@ -9,7 +13,6 @@ import org.jgrapht.nio.dot.DOTExporter;
 
 import java.io.*;
 import java.util.*;
-import java.util.stream.Collectors;
 
 
 /**
@@ -21,61 +24,217 @@ import java.util.stream.Collectors;
  */
 public class OperationDependencyGraph {
     private final Graph<OperationNode, DependencyEdge> graph = new DirectedMultigraph<>(DependencyEdge.class);
+    private final Graph<OperationNode, DependencyEdge> unmodifiableGraph = new AsUnmodifiableGraph<>(graph);
+
+    // Frontier of the graph, maintained as vertices and edges are added and removed:
+    // insertion index and number of outgoing edges of each vertex, and vertices with no outgoing edges.
+    private final Map<OperationNode, Integer> insertionIndexes = new IdentityHashMap<>();
+    private final Map<OperationNode, Integer> outDegrees = new IdentityHashMap<>();
+    private final Set<OperationNode> readyNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, List<OperationNode>> nodesById = new HashMap<>();
+    private int nextInsertionIndex = 0;
+
+    // Strongly connected components by vertex, computed when first needed. New edges can merge components, so they
+    // drop them; removing a vertex can only split its own component, which is then recomputed alone.
+    private Map<OperationNode, Set<OperationNode>> components;
+    private final Set<Set<OperationNode>> splitComponents = Collections.newSetFromMap(new IdentityHashMap<>());
+
     public OperationDependencyGraph() {
     }
 
     public OperationDependencyGraph deepClone() {
         OperationDependencyGraph newODG = new OperationDependencyGraph();
 
-        this.getGraph().vertexSet()
+        this.graph.vertexSet()
                 .forEach(v -> {
                     v.resetTestedTimes();
                     newODG.addVertex(v);
                 });
-        this.getGraph().edgeSet().forEach(e ->
-                newODG.getGraph().addEdge(this.getGraph().getEdgeSource(e), this.getGraph().getEdgeTarget(e), e));
+        this.graph.edgeSet().forEach(e ->
+                newODG.addEdge(this.graph.getEdgeSource(e), this.graph.getEdgeTarget(e), e));
 
         return newODG;
     }
 
+    /**
+     * @return a read-only view of the graph, vertices and edges are changed through the methods of the ODG.
+     */
     public Graph<OperationNode, DependencyEdge> getGraph() {
-        return graph;
+        return unmodifiableGraph;
     }
 
     public void addEdge(OperationNode source, OperationNode target, DependencyEdge dependencyEdge) {
-        graph.addEdge(source, target, dependencyEdge);
+        if (graph.addEdge(source, target, dependencyEdge)) {
+            outDegrees.merge(source, 1, Integer::sum);
+            readyNodes.remove(source);
+            if (components != null && components.get(source) != components.get(target)) {
+                components = null;
+            }
+        }
     }
 
     public void addVertex(OperationNode operationNode) {
-        graph.addVertex(operationNode);
+        if (graph.addVertex(operationNode)) {
+            insertionIndexes.put(operationNode, nextInsertionIndex++);
+            outDegrees.put(operationNode, 0);
+            readyNodes.add(operationNode);
+            nodesById.computeIfAbsent(operationNode.getOperationId(), id -> new ArrayList<>(1)).add(operationNode);
+            if (components != null) {
+                indexComponent(Set.of(operationNode));
+            }
+        }
+    }
+
+    /**
+     * Removes a vertex and its edges. Operations depending only on the removed one become leaves.
+     * @param operationNode the vertex to remove.
+     * @return true if the graph contained the vertex.
+     */
+    public boolean removeVertex(OperationNode operationNode) {
+        if (!graph.containsVertex(operationNode)) {
+            return false;
+        }
+
+        for (DependencyEdge edge : graph.incomingEdgesOf(operationNode)) {
+            OperationNode source = graph.getEdgeSource(edge);
+            if (outDegrees.merge(source, -1, Integer::sum) == 0) {
+                readyNodes.add(source);
+            }
+        }
+
+        graph.removeVertex(operationNode);
+        insertionIndexes.remove(operationNode);
+        outDegrees.remove(operationNode);
+        readyNodes.remove(operationNode);
+        List<OperationNode> sameId = nodesById.get(operationNode.getOperationId());
+        if (sameId != null) {
+            sameId.removeIf(v -> v == operationNode);
+            if (sameId.isEmpty()) {
+                nodesById.remove(operationNode.getOperationId());
+            }
+        }
+        if (components != null) {
+            Set<OperationNode> component = components.remove(operationNode);
+            component.remove(operationNode);
+            if (component.isEmpty()) {
+                splitComponents.remove(component);
+            } else {
+                splitComponents.add(component);
+            }
+        }
+        return true;
     }
 
     /**
      * Leaves are those operations with no outgoing edges, i.e. operations with no dependencies.
      * No dependency means either no input fields or input fields found in the output of no operations.
      *
-     * @return a list of nodes that have no dependencies.
+     * @return a list of nodes that have no dependencies, in insertion order.
      */
     public List<OperationNode> getLeaves() {
-        List<OperationNode> leaves = graph.vertexSet().stream().filter(v -> graph.outgoingEdgesOf(v).size() == 0).collect(Collectors.toList());
-
-        return leaves;
+        return sortByInsertion(readyNodes);
     }
 
     /**
      * @return a list of nodes that have at least 1 mutual parameter.
      */
     public List<OperationNode> getNextDependentNodes() {
-        OperationNode firstNode = this.getGraph().vertexSet().iterator().next();
+        OperationNode firstNode = graph.vertexSet().iterator().next();
+        Set<OperationNode> dependents = Collections.newSetFromMap(new IdentityHashMap<>());
+        graph.incomingEdgesOf(firstNode).forEach(edge -> dependents.add(graph.getEdgeSource(edge)));
+
         List<OperationNode> dependentNodes = new ArrayList<>();
         dependentNodes.add(firstNode);
-        dependentNodes.addAll(graph.vertexSet().stream().filter(v -> graph.containsEdge(v, firstNode)).collect(Collectors.toList()));
+        dependentNodes.addAll(sortByInsertion(dependents));
 
         return dependentNodes;
     }
 
+    /**
+     * Operations that can be tested next when the graph has no leaves. The graph is condensed into its strongly
+     * connected components; the ready components are those whose operations only depend on each other, i.e. the sinks
+     * of the condensation, which come first in its topological order. Components are kept between calls, only those
+     * split by removed vertices are computed again.
+     * @return the ready components, each sorted by decreasing number of satisfied inputs, then by HTTP method.
+     */
+    public List<List<OperationNode>> getReadyComponents() {
+        List<List<OperationNode>> readyComponents = new ArrayList<>();
+
+        for (Set<OperationNode> component : getComponents()) {
+            Map<OperationNode, Integer> satisfiedInputs = new IdentityHashMap<>();
+            boolean ready = true;
+
+            for (OperationNode operationNode : component) {
+                // Inputs produced by operations still in the graph are not satisfied yet
+                Set<String> unsatisfied = new HashSet<>();
+                for (DependencyEdge edge : graph.outgoingEdgesOf(operationNode)) {
+                    if (!component.contains(graph.getEdgeTarget(edge))) {
+                        ready = false;
+                        break;
+                    }
+                    unsatisfied.add(edge.getParameterName());
+                }
+                if (!ready) break;
+
+                int satisfied = 0;
+                for (ParameterLeaf leaf : operationNode.getParameterLeafList()) {
+                    if (!unsatisfied.contains(leaf.getNormalizedName().toString())) {
+                        satisfied++;
+                    }
+                }
+                satisfiedInputs.put(operationNode, satisfied);
+            }
+
+            if (ready) {
+                List<OperationNode> sorted = sortByInsertion(component);
+                sorted.sort(Comparator.comparingInt((OperationNode v) -> satisfiedInputs.get(v)).reversed()
+                        .thenComparing(OperationNode::getMethod));
+                readyComponents.add(sorted);
+            }
+        }
+
+        // Components in the order of their first operation
+        readyComponents.sort(Comparator.comparingInt(component -> component.stream()
+                .mapToInt(insertionIndexes::get).min().orElse(Integer.MAX_VALUE)));
+        return readyComponents;
+    }
+
+    private Collection<Set<OperationNode>> getComponents() {
+        if (components == null) {
+            components = new IdentityHashMap<>();
+            splitComponents.clear();
+            new KosarajuStrongConnectivityInspector<>(graph).stronglyConnectedSets().forEach(this::indexComponent);
+        } else if (!splitComponents.isEmpty()) {
+            for (Set<OperationNode> component : splitComponents) {
+                new KosarajuStrongConnectivityInspector<>(new AsSubgraph<>(graph, component)).stronglyConnectedSets()
+                        .forEach(this::indexComponent);
+            }
+            splitComponents.clear();
+        }
+
+        Set<Set<OperationNode>> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(components.values());
+        return distinct;
+    }
+
+    private void indexComponent(Set<OperationNode> vertices) {
+        Set<OperationNode> component = Collections.newSetFromMap(new IdentityHashMap<>());
+        component.addAll(vertices);
+        component.forEach(operationNode -> components.put(operationNode, component));
+    }
+
+    /**
+     * @return the operation with the given ID, null if none.
+     */
     public OperationNode getOperationNodeById(String operationId) {
-        return graph.vertexSet().stream().filter(v -> v.getOperationId().equals(operationId)).collect(Collectors.toList()).get(0);
+        List<OperationNode> operationNodes = nodesById.get(operationId);
+        return operationNodes == null ? null : operationNodes.get(0);
+    }
+
+    private List<OperationNode> sortByInsertion(Collection<OperationNode> operationNodes) {
+        List<OperationNode> sorted = new ArrayList<>(operationNodes);
+        sorted.sort(Comparator.comparingInt(insertionIndexes::get));
+        return sorted;
     }
 
     /**
@@ -126,6 +285,13 @@ public class OperationDependencyGraph {
         for (OperationNode operationNode : vertexList)
             matrix.append(operationNode.getOperationNodeId()).append(" ".repeat(gapLength - operationNode.getOperationNodeId().length()));
 
+        // Index vertices once instead of looking up each pair of vertices in the graph
+        Map<OperationNode, Integer> vertexIndexes = new HashMap<>();
+        for (int i = 0; i < vertexList.size(); ++i) {
+            vertexIndexes.put(vertexList.get(i), i);
+        }
+
+        String emptyCell = " ".repeat(gapLength);
         for (int i = 0; i < vertexList.size(); ++i) {
             matrix.append("\n").append(vertexList.get(i).getOperationNodeId());
             int len = gapLength;
@@ -133,13 +299,23 @@ public class OperationDependencyGraph {
                 len--;
                 matrix.append(" ");
             }
+
+            // First edge to each dependency of the row
+            String[] params = new String[vertexList.size()];
+            for (DependencyEdge edge : graph.outgoingEdgesOf(vertexList.get(i))) {
+                int j = vertexIndexes.get(graph.getEdgeTarget(edge));
+                if (params[j] == null) {
+                    params[j] = edge.getParameterName();
+                }
+            }
+
             for (int j = 0; j < vertexList.size(); ++j) {
-                if (i != j && graph.containsEdge(vertexList.get(i), vertexList.get(j))) {
-                    String param = graph.getEdge(vertexList.get(i), vertexList.get(j)).getParameterName();
+                if (i != j && params[j] != null) {
+                    String param = params[j];
                     matrix.append(param);
                     matrix.append(" ".repeat(gapLength > param.length() ? gapLength - param.length() : 0));
                 } else {
-                    matrix.append(" ".repeat(gapLength));
+                    matrix.append(emptyCell);
                 }
             }
         }
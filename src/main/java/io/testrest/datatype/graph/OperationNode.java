@@ -8,6 +8,7 @@ import io.testrest.Configuration;
 import io.testrest.Environment;
 import io.testrest.datatype.HttpMethod;
 import io.testrest.datatype.parameter.*;
+import io.testrest.helper.RunLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -86,7 +87,7 @@ public class OperationNode extends io.swagger.v3.oas.models.Operation {
                 parameterLeafList.add(newParameter(p));
             }
 
-            System.out.println(parameterLeafList);
+            RunLog.debug("operation.parameters", parameterLeafList::toString, "operation", operationNodeId);
         //        for(ParameterLeaf leaf : parameterLeafList) {
         //            System.out.println(leaf.getNormalizedName());
         //        }
@@ -223,7 +224,11 @@ public class OperationNode extends io.swagger.v3.oas.models.Operation {
     }
 
     public Operation deepClone() {
-        return new OperationNode(this.method, this.path, this);
+        OperationNode clone = new OperationNode(this.method, this.path, this);
+        if (outputs != null) {
+            clone.setOutputs(new ArrayList<>(outputs));
+        }
+        return clone;
     }
 
     public int getTestedTimes() {
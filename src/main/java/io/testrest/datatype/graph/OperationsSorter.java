@@ -1,5 +1,7 @@
 package io.testrest.datatype.graph;
 
+import io.testrest.helper.RunLog;
+
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,12 +17,10 @@ public class OperationsSorter {
             return operationNodeList;
         }
 
-        System.out.println("Original List: ");
-        operationNodeList.forEach(node -> System.out.println(node.getOperationNodeId()));
         List<OperationNode> sortedList = operationNodeList.stream().sorted(Comparator.comparing(OperationNode::getMethod)).collect(Collectors.toList());
 
-        System.out.println("Sorted List: ");
-        sortedList.forEach(node -> System.out.println(node.getOperationNodeId()));
+        RunLog.debug("operations.sort", () -> "Original list: " + operationNodeList.stream().map(OperationNode::getOperationNodeId).collect(Collectors.toList())
+                + "\nSorted list: " + sortedList.stream().map(OperationNode::getOperationNodeId).collect(Collectors.toList()));
 
         return sortedList;
     }
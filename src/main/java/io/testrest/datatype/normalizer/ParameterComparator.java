@@ -4,6 +4,7 @@ import io.swagger.v3.oas.models.parameters.Parameter;
 import io.testrest.datatype.graph.OperationNode;
 import io.testrest.datatype.parameter.NormalizedParameterName;
 import io.testrest.datatype.parameter.ParameterElement;
+import io.testrest.helper.RunLog;
 
 public class ParameterComparator extends Normalizer {
 
@@ -63,7 +64,8 @@ public class ParameterComparator extends Normalizer {
 //                parameter.setName(name);
 //                System.out.println("Parameter: " + parameter.getName() + " is renamed to: " + name);
             } catch (Exception e) {
-                System.out.println("Parameter: " + parameter.getName() + " cannot be renamed due to unsupported OpenAPI Specification.");
+                RunLog.warning("parameter.rename", "Parameter: " + parameter.getName() + " cannot be renamed due to unsupported OpenAPI Specification.",
+                        "operation", operation.getOperationId());
             }
         }
         return name;
@@ -1,7 +1,7 @@
 package io.testrest.datatype.parameter;
 
 import io.swagger.v3.oas.models.parameters.Parameter;
-import io.testrest.helper.ObjectHelper;
+import io.testrest.Main;
 import io.testrest.parser.EditReadOnlyOperationException;
 import io.testrest.datatype.graph.OperationNode;
 
@@ -43,22 +43,7 @@ public abstract class CombinedSchemaParameter extends ParameterElement {
     }
 
     protected CombinedSchemaParameter(CombinedSchemaParameter other) {
-        name = other.getName();
-        schemaName = other.getSchemaName();
-        required = other.isRequired();
-        type = other.getType(); // Amedeo did: ParameterType.getTypeFromString(other.type.name());
-        format = other.getFormat();
-        setLocation(other.getLocation());
-        setStyle(other.getStyle());
-        setExplode(other.isExplode());
-        setOperation(other.getOperation());
-
-        setDescription(other.getDescription());
-
-        defaultValue = ObjectHelper.deepCloneObject(other.getDefaultValue());
-        enumValues = new HashSet<>(ObjectHelper.deepCloneObject(other.getEnumValues()));
-        examples = new HashSet<>(ObjectHelper.deepCloneObject(other.getExamples()));
-
+        super(other, other.getOperation(), null);
 
         this.parametersSchemas = new LinkedList<>();
         other.parametersSchemas.forEach(ps -> this.parametersSchemas.add(ps.deepClone()));
@@ -70,22 +55,7 @@ public abstract class CombinedSchemaParameter extends ParameterElement {
     }
 
     protected CombinedSchemaParameter(CombinedSchemaParameter other, OperationNode operation, ParameterElement parent) {
-        super(operation, parent);
-        name = other.getName();
-        schemaName = other.getSchemaName();
-        required = other.isRequired();
-        type = other.getType(); // Amedeo did: ParameterType.getTypeFromString(other.type.name());
-        format = other.getFormat();
-        setLocation(other.getLocation());
-        setStyle(other.getStyle());
-        setExplode(other.isExplode());
-        setOperation(other.getOperation());
-
-        setDescription(other.getDescription());
-
-        defaultValue = ObjectHelper.deepCloneObject(other.getDefaultValue());
-        enumValues = new HashSet<>(ObjectHelper.deepCloneObject(other.getEnumValues()));
-        examples = new HashSet<>(ObjectHelper.deepCloneObject(other.getExamples()));
+        super(other, operation, parent);
 
         this.parametersSchemas = new LinkedList<>();
         other.parametersSchemas.forEach(ps -> this.parametersSchemas.add(ps.deepClone()));
@@ -256,7 +226,7 @@ public abstract class CombinedSchemaParameter extends ParameterElement {
         }
 
         List<Integer> indexes = new LinkedList<>();
-        Random random = new Random();
+        Random random = Main.getEnvironment().getRandom();
 
         while (numberOfSchemas-- > 0) {
             int index = random.nextInt(schemaIndexes.size());
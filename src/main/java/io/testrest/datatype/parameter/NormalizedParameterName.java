@@ -1,14 +1,23 @@
 package io.testrest.datatype.parameter;
 
 import io.testrest.datatype.normalizer.PorterStemmer;
+import io.testrest.helper.MemoCache;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 public class NormalizedParameterName {
 
     private static Set<String> qualifiableNames;
     private final static PorterStemmer stemmer = new PorterStemmer();
-    private final static Set<String> qualifiedNames = new HashSet<>();
+    private final static Set<String> qualifiedNames = ConcurrentHashMap.newKeySet();
+
+    // Splits names using camelCase, '_' , '-'
+    private final static Pattern tokenizer = Pattern.compile("(?=[A-Z])|_|-");
+    private final static int cacheCapacity = 10000;
+    private final static MemoCache<String, String> normalizedNameCache = new MemoCache<>(cacheCapacity);
+    private final static MemoCache<String, String> stemCache = new MemoCache<>(cacheCapacity);
 
     private String normalizedParameterName;
 
@@ -20,6 +29,19 @@ public class NormalizedParameterName {
         this.normalizedParameterName = computeNormalizedName(name);
     }
 
+    private NormalizedParameterName() {
+    }
+
+    /**
+     * @param normalizedName a name that is already normalized, e.g. read back from a file.
+     * @return the normalized name, without normalizing it again.
+     */
+    public static NormalizedParameterName fromNormalizedName(String normalizedName) {
+        NormalizedParameterName name = new NormalizedParameterName();
+        name.normalizedParameterName = normalizedName;
+        return name;
+    }
+
     public void setNormalizedParameterName(ParameterName parameterName) {
         this.normalizedParameterName = computeNormalizedName(parameterName.toString());
     }
@@ -28,7 +50,7 @@ public class NormalizedParameterName {
         qualifiableNames = new HashSet<>();
 
         for (String name : names) {
-            qualifiableNames.add(stemmer.stemWord(name));
+            qualifiableNames.add(stem(name));
         }
 
     }
@@ -38,14 +60,18 @@ public class NormalizedParameterName {
         if (name.length() <= 2) {
             return name;
         }
+        return normalizedNameCache.get(name, NormalizedParameterName::normalize);
+    }
+
+    private static String normalize(String name) {
         // First, split using camelCase, '_' , '-'
-        String[] tokens = name.split("(?=[A-Z])|_|-");
-        ArrayList<String> stemmed = new ArrayList<>();
+        String[] tokens = tokenizer.split(name);
+        ArrayList<String> stemmed = new ArrayList<>(tokens.length);
 
         // Stem each token
         for (String token : tokens) {
             if (token.length() > 0) {
-                stemmed.add(stemmer.stemWord(token));
+                stemmed.add(stem(token));
             }
         }
 
@@ -62,6 +88,22 @@ public class NormalizedParameterName {
         return normalizedName.toString();
     }
 
+    /**
+     * @param word the word to stem.
+     * @return the stem of the word, memoized.
+     */
+    public static String stem(String word) {
+        return stemCache.get(word, stemmer::stemWord);
+    }
+
+    public static MemoCache<String, String> getNormalizedNameCache() {
+        return normalizedNameCache;
+    }
+
+    public static MemoCache<String, String> getStemCache() {
+        return stemCache;
+    }
+
     public static NormalizedParameterName computeParameterNormalizedName(ParameterElement parameter) {
         return new NormalizedParameterName(qualifyName(parameter));
     }
@@ -71,7 +113,7 @@ public class NormalizedParameterName {
         String name = parameter.getName().toString();
 
         // Check that name is qualifiable. Skip header parameters.
-        if (qualifiableNames != null && qualifiableNames.contains(stemmer.stemWord(name)) &&
+        if (qualifiableNames != null && qualifiableNames.contains(stem(name)) &&
                 !parameter.getLocation().equals(ParameterLocation.HEADER)) {
 
             // First, check out if it has a parent
@@ -106,7 +148,7 @@ public class NormalizedParameterName {
 
             // Check for matches with already qualified names
             for (String keyword : keywords) {
-                String candidateName = computeNormalizedName(stemmer.stemWord(keyword) + "_" + name);
+                String candidateName = computeNormalizedName(stem(keyword) + "_" + name);
 
                 if (qualifiedNames.contains(candidateName)) {
                     return candidateName;
@@ -115,7 +157,7 @@ public class NormalizedParameterName {
 
             // If no candidate has a match, qualify using last URL part of the path
             String candidateName = keywords.size() > 0 ?
-                    computeNormalizedName(stemmer.stemWord(keywords.get(keywords.size() - 1)) + "_" + name) :
+                    computeNormalizedName(stem(keywords.get(keywords.size() - 1)) + "_" + name) :
                     name;
             qualifiedNames.add(candidateName);
             return candidateName;
@@ -139,7 +181,7 @@ public class NormalizedParameterName {
         String name = parameter.getName().toString();
 
         // Check that name is qualifiable. Skip header parameters.
-        if (qualifiableNames.contains(stemmer.stemWord(name)) && !parameter.getLocation().equals(ParameterLocation.HEADER)) {
+        if (qualifiableNames.contains(stem(name)) && !parameter.getLocation().equals(ParameterLocation.HEADER)) {
 
             // First, check for schema names
             if (parameter.getSchemaName() != null) {
@@ -178,7 +220,7 @@ public class NormalizedParameterName {
 
             // Check for matches with already qualified names
             for (String keyword : keywords) {
-                String candidateName = computeNormalizedName(stemmer.stemWord(keyword) + "_" + name);
+                String candidateName = computeNormalizedName(stem(keyword) + "_" + name);
 
                 if (qualifiedNames.contains(candidateName)) {
                     return candidateName;
@@ -187,7 +229,7 @@ public class NormalizedParameterName {
 
             // If no candidate has a match, qualify using last URL part of the path
             String candidateName = keywords.size() > 0 ?
-                    computeNormalizedName(stemmer.stemWord(keywords.get(keywords.size() - 1)) + "_" + name) :
+                    computeNormalizedName(stem(keywords.get(keywords.size() - 1)) + "_" + name) :
                     name;
             qualifiedNames.add(candidateName);
             return candidateName;
@@ -35,6 +35,7 @@ public abstract class ParameterElement extends Taggable {
     protected Object defaultValue;
     protected HashSet enumValues;
     protected Set<Object> examples;
+    private boolean examplesShared; // True if examples are shared with a clone, and must be copied before a change
 
     private String description;
 
@@ -215,6 +216,32 @@ public abstract class ParameterElement extends Taggable {
         enumValues = (HashSet) other.getEnumValues();
     }
 
+    /*
+     * Used by deepClone. Names, default value and enum values are never changed in place, so they are shared with the
+     * cloned parameter. Examples are shared too, until one of the two parameters adds an example.
+     */
+    protected ParameterElement(ParameterElement other, OperationNode operation, ParameterElement parent) {
+        name = other.name;
+        normalizedName = other.normalizedName;
+        schemaName = other.schemaName;
+        required = other.required;
+        type = other.type;
+        format = other.format;
+        location = other.location;
+        style = other.style;
+        explode = other.explode;
+        this.operation = operation;
+        this.parent = parent;
+
+        description = other.description;
+
+        defaultValue = other.defaultValue;
+        enumValues = other.enumValues;
+        examples = other.examples;
+        examplesShared = true;
+        other.examplesShared = true;
+    }
+
     protected ParameterElement(Parameter other, OperationNode operation) {
         this.operation = operation;
         name = new ParameterName(other.getName());
@@ -479,6 +506,10 @@ public abstract class ParameterElement extends Taggable {
         if (operation.isReadOnly()) {
             throw new EditReadOnlyOperationException(operation);
         }
+        if (examplesShared) {
+            examples = new HashSet<>(examples);
+            examplesShared = false;
+        }
         if (this.isObjectTypeCompliant(o)) {
             this.examples.add(o);
         } else {
@@ -1,7 +1,6 @@
 package io.testrest.datatype.parameter;
 
 import io.swagger.v3.oas.models.parameters.Parameter;
-import io.testrest.helper.ObjectHelper;
 import io.testrest.datatype.graph.OperationNode;
 
 import java.util.*;
@@ -35,22 +34,7 @@ public abstract class ParameterLeaf extends ParameterElement {
     }
 
     protected ParameterLeaf(ParameterLeaf other, OperationNode operation, ParameterElement parent) {
-        super(operation, parent);
-        name = other.getName();
-        schemaName = other.getSchemaName();
-        required = other.isRequired();
-        type = other.getType(); // Amedeo did: ParameterType.getTypeFromString(other.type.name());
-        format = other.getFormat();
-        setLocation(other.getLocation());
-        setStyle(other.getStyle());
-        setExplode(other.isExplode());
-        setOperation(other.getOperation());
-
-        setDescription(other.getDescription());
-
-        defaultValue = ObjectHelper.deepCloneObject(other.getDefaultValue());
-        enumValues = new HashSet<>(ObjectHelper.deepCloneObject(other.getEnumValues()));
-        examples = new HashSet<>(ObjectHelper.deepCloneObject(other.getExamples()));
+        super(other, operation, parent);
     }
 
     public ParameterLeaf(OperationNode operation, ParameterElement parent) {
@@ -1,11 +1,9 @@
 package io.testrest.datatype.parameter;
 
 import io.swagger.v3.oas.models.parameters.Parameter;
-import io.testrest.helper.ObjectHelper;
 import io.testrest.parser.EditReadOnlyOperationException;
 import io.testrest.datatype.graph.OperationNode;
 
-import java.util.HashSet;
 import java.util.logging.Logger;
 
 public abstract class StructuredParameterElement extends ParameterElement {
@@ -26,22 +24,8 @@ public abstract class StructuredParameterElement extends ParameterElement {
     }
 
     protected StructuredParameterElement(StructuredParameterElement other, OperationNode operation, ParameterElement parent) {
-        super(operation, parent);
-        name = other.getName();
-        schemaName = other.getSchemaName();
-        required = other.isRequired();
-        type = other.getType(); // Amedeo did: ParameterType.getTypeFromString(other.type.name());
-        format = other.getFormat();
-        setLocation(other.getLocation());
-        setStyle(other.getStyle());
-        setExplode(other.isExplode());
-        setOperation(other.getOperation());
-
-        setDescription(other.getDescription());
-
-        defaultValue = ObjectHelper.deepCloneObject(other.getDefaultValue());
-        enumValues = new HashSet<>(ObjectHelper.deepCloneObject(other.getEnumValues()));
-        examples = new HashSet<>(ObjectHelper.deepCloneObject(other.getExamples()));
+        super(other, operation, parent);
+        keepIfEmpty = other.keepIfEmpty;
     }
 
     public StructuredParameterElement(OperationNode operation, ParameterElement parent) {
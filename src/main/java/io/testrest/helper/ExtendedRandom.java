@@ -1,9 +1,6 @@
 package io.testrest.helper;
 
 import com.github.javafaker.Faker;
-import com.github.javafaker.service.FakeValuesService;
-import com.github.javafaker.service.RandomService;
-import com.google.common.io.Resources;
 import io.testrest.Configuration;
 import io.testrest.Main;
 import io.testrest.core.dictionary.Dictionary;
@@ -11,9 +8,6 @@ import io.testrest.core.dictionary.DictionaryEntry;
 import org.iban4j.CountryCode;
 import org.iban4j.Iban;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -24,11 +18,119 @@ import static java.time.temporal.ChronoUnit.SECONDS;
 
 /**
  * Extension of the java.util.Random class providing primitives for random strings, lengths, and other.
+ * A generator can be split into independent generators, each seeded from the seed of the generator and a key, so
+ * that every operation or mutant draws from its own stream, whatever the order the threads run in.
  */
 public class ExtendedRandom extends Random {
-    FakeValuesService fakeValuesService = new FakeValuesService(
-            new Locale(Configuration.getLocale()), new RandomService());
-    Faker faker = new Faker(new Locale(Configuration.getLocale()));
+    private static final WordList words = WordList.getInstance();
+    // Building a Faker loads its locale files, so each thread keeps one and points it to the generator in use
+    private static final ThreadLocal<ThreadFaker> threadFaker = new ThreadLocal<>();
+    private final long seed;
+
+    public ExtendedRandom() {
+        this(new Random().nextLong());
+    }
+
+    public ExtendedRandom(long seed) {
+        super(seed);
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Derives an independent generator from the seed of this one and a key, without drawing from this generator.
+     * @param key the key, for example the ID of an operation.
+     * @return a generator always having the same seed for the same seed and key.
+     */
+    public ExtendedRandom split(String key) {
+        // FNV-1a hash of the key, then mixed with the seed by the SplitMix64 finalizer
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return new ExtendedRandom(mix64(seed ^ mix64(hash)));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return the Faker of the calling thread, drawing from this generator.
+     */
+    private Faker getFaker() {
+        String locale = Configuration.getLocale();
+        ThreadFaker holder = threadFaker.get();
+        if (holder == null || !holder.locale.equals(locale)) {
+            holder = new ThreadFaker(locale);
+            threadFaker.set(holder);
+        }
+        holder.random.target = this;
+        return holder.faker;
+    }
+
+    private static class ThreadFaker {
+        private final String locale;
+        private final DelegatingRandom random = new DelegatingRandom();
+        private final Faker faker;
+
+        private ThreadFaker(String locale) {
+            this.locale = locale;
+            this.faker = new Faker(new Locale(locale), random);
+        }
+    }
+
+    /**
+     * Random passing every draw to another generator, which can be changed.
+     */
+    private static class DelegatingRandom extends Random {
+        private Random target = new Random();
+
+        @Override
+        public int nextInt() {
+            return target.nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return target.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return target.nextLong();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return target.nextBoolean();
+        }
+
+        @Override
+        public float nextFloat() {
+            return target.nextFloat();
+        }
+
+        @Override
+        public double nextDouble() {
+            return target.nextDouble();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return target.nextGaussian();
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            target.nextBytes(bytes);
+        }
+    }
 
     /**
      * Returns a positive integer.
@@ -236,15 +338,7 @@ public class ExtendedRandom extends Random {
             return nextWord();
         }
 
-        URL url = Resources.getResource("random_word/word" + length + ".txt");
-        try {
-            String text = Resources.toString(url, StandardCharsets.UTF_8);
-            String[] list = text.split("\n");
-            return list[nextInt(list.length)].replace("\r", "").replace("\n", "");
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException();
-        }
+        return words.get(length, nextInt(words.count(length)));
     }
 
     public String nextGlobalDictionaryEntry(int length) {
@@ -372,7 +466,10 @@ public class ExtendedRandom extends Random {
      * @return the UUID string.
      */
     public String nextUUID() {
-        return UUID.randomUUID().toString();
+        // Version 4 UUID, drawn from this generator
+        long mostSigBits = (nextLong() & ~0xf000L) | 0x4000L;
+        long leastSigBits = (nextLong() & ~(0xcL << 60)) | (0x8L << 60);
+        return new UUID(mostSigBits, leastSigBits).toString();
     }
 
     /**
@@ -581,7 +678,7 @@ public class ExtendedRandom extends Random {
      */
     public String nextPhoneNumber()
     {
-        return faker.phoneNumber().phoneNumber();
+        return getFaker().phoneNumber().phoneNumber();
     }
 
     /**
@@ -590,7 +687,7 @@ public class ExtendedRandom extends Random {
      */
     public String nextEmail()
     {
-        return faker.internet().emailAddress();
+        return getFaker().internet().emailAddress();
     }
 
     public String nextURI() {
@@ -638,7 +735,7 @@ public class ExtendedRandom extends Random {
     }
 
     public String nextDomain() {
-        return faker.internet().domainName();
+        return getFaker().internet().domainName();
     }
 
     public String nextProtocol() {
@@ -713,14 +810,14 @@ public class ExtendedRandom extends Random {
 
     public String nextCountryCode(int alpha) {
         if (alpha == 3) {
-            return faker.country().countryCode3();
+            return getFaker().country().countryCode3();
         }
 
-        return faker.country().countryCode2();
+        return getFaker().country().countryCode2();
     }
 
     public String nextCurrency() {
-        return faker.currency().code();
+        return getFaker().currency().code();
     }
 
     public String[] getAlpha3CountryCodes() {
@@ -736,7 +833,7 @@ public class ExtendedRandom extends Random {
     }
 
     public String nextName() {
-        return faker.artist().name();
+        return getFaker().artist().name();
     }
 
 }
@@ -0,0 +1,27 @@
+package io.testrest.helper;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+public class FileHelper {
+
+    private FileHelper() {
+    }
+
+    /**
+     * Moves a file over a target, atomically where the file system supports it, so that the target is never seen half
+     * written. On other file systems the file is moved without the guarantee.
+     * @param source the file to be moved, usually a temporary file next to the target.
+     * @param target the file to be replaced.
+     */
+    public static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
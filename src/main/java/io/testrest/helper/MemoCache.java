@@ -0,0 +1,96 @@
+package io.testrest.helper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe memoization cache. When full, the least recently used entry is evicted.
+ * @param <K> type of the keys.
+ * @param <V> type of the memoized values.
+ */
+public class MemoCache<K, V> {
+
+    private final int capacity;
+    private final Map<K, V> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public MemoCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of a cache must be positive.");
+        }
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MemoCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the memoized value for the key, computing it on a miss. The computation runs outside the lock, so two
+     * threads missing the same key may both compute it.
+     * @param key the key, must not be null.
+     * @param function computes the value of a key, must not return null.
+     * @return the value.
+     */
+    public V get(K key, Function<? super K, ? extends V> function) {
+        V value;
+        synchronized (cache) {
+            value = cache.get(key);
+        }
+        if (value != null) {
+            hits.incrementAndGet();
+            return value;
+        }
+
+        misses.incrementAndGet();
+        value = function.apply(key);
+        synchronized (cache) {
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return ratio of lookups answered from the cache, 0 if there were no lookups.
+     */
+    public double getHitRatio() {
+        long lookups = getHits() + getMisses();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "size: " + size() + "/" + capacity + ", hits: " + getHits() + ", misses: " + getMisses();
+    }
+}
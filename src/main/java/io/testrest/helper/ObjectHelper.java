@@ -5,20 +5,48 @@ import com.google.gson.reflect.TypeToken;
 import io.testrest.datatype.parameter.ParameterLeaf;
 import io.testrest.datatype.parameter.ParameterType;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 // TODO: rename class
 public class ObjectHelper {
 
+    private static final Gson gson = new Gson();
+
+    /**
+     * Copies a value, such as an example or a default value. Maps and collections are copied element by element,
+     * immutable values (strings, numbers, booleans, enums and parameter leaves) are shared, and any other object is
+     * copied through its JSON form.
+     * @param o the value to be copied.
+     * @return the copy.
+     */
+    @SuppressWarnings("unchecked")
     public static <T> T deepCloneObject(T o) {
-        if (o instanceof Number) {
-            return o;
-        } else if (o instanceof ParameterLeaf) {
+        if (o == null || o instanceof String || o instanceof Number || o instanceof Boolean || o instanceof Character ||
+                o instanceof Enum || o instanceof ParameterLeaf) {
             return o;
+        } else if (o instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) o;
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            map.forEach((key, value) -> copy.put(key, deepCloneObject(value)));
+            return (T) copy;
+        } else if (o instanceof Set) {
+            Set<Object> set = (Set<Object>) o;
+            Set<Object> copy = new LinkedHashSet<>(set.size() * 4 / 3 + 1);
+            set.forEach(element -> copy.add(deepCloneObject(element)));
+            return (T) copy;
+        } else if (o instanceof Collection) {
+            Collection<Object> collection = (Collection<Object>) o;
+            List<Object> copy = new ArrayList<>(collection.size());
+            collection.forEach(element -> copy.add(deepCloneObject(element)));
+            return (T) copy;
         } else {
-            String json = new Gson().toJson(o);
-            return new Gson().fromJson(json, new TypeToken<>() {
+            return gson.fromJson(gson.toJson(o), new TypeToken<>() {
             }.getType());
         }
     }
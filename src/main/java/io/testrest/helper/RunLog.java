@@ -0,0 +1,266 @@
+package io.testrest.helper;
+
+import com.google.gson.Gson;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Structured log of a testing session. Records are queued by the calling threads and written by a single background
+ * thread: every record to run.log as one JSON object per line, and report records also to cov.txt as plain lines.
+ * Records below the level are discarded before their message is built. When the queue is full, DEBUG records are
+ * dropped while other records wait for room. Until the log is opened, records are passed to java.util.logging.
+ */
+public class RunLog {
+    private static final Logger logger = Logger.getLogger(RunLog.class.getName());
+
+    public static final String LOG_FILE = "run.log";
+    public static final String REPORT_FILE = "cov.txt";
+    public static final String REPORT_EVENT = "report";
+
+    public enum Level {
+        DEBUG(java.util.logging.Level.FINE),
+        INFO(java.util.logging.Level.INFO),
+        WARNING(java.util.logging.Level.WARNING),
+        ERROR(java.util.logging.Level.SEVERE);
+
+        private final java.util.logging.Level julLevel;
+
+        Level(java.util.logging.Level julLevel) {
+            this.julLevel = julLevel;
+        }
+    }
+
+    private static final Record END = new Record(Level.ERROR, "", "", Map.of());
+
+    private static volatile Level level = Level.INFO;
+    private static volatile BlockingQueue<Record> queue;
+    private static Thread writerThread;
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private RunLog() {
+    }
+
+    public static void setLevel(Level level) {
+        RunLog.level = level;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * @return true if records of the level are kept.
+     */
+    public static boolean isEnabled(Level recordLevel) {
+        return recordLevel.compareTo(level) >= 0;
+    }
+
+    /**
+     * Starts writing the records to the log files of a directory, appending to existing files.
+     * @param directory the directory.
+     * @param capacity number of records that can wait to be written.
+     */
+    public static synchronized void open(Path directory, int capacity) throws IOException {
+        close();
+        Files.createDirectories(directory);
+        BufferedWriter log = Files.newBufferedWriter(directory.resolve(LOG_FILE), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        BufferedWriter report = Files.newBufferedWriter(directory.resolve(REPORT_FILE), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        BlockingQueue<Record> records = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        writerThread = new Thread(() -> write(records, log, report), "run-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        queue = records;
+    }
+
+    /**
+     * Writes the queued records and closes the log files. Later records are passed to java.util.logging.
+     */
+    public static synchronized void close() {
+        BlockingQueue<Record> records = queue;
+        if (records == null) {
+            return;
+        }
+        queue = null;
+
+        try {
+            records.put(END);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
+    /**
+     * @return number of DEBUG records dropped because the queue was full.
+     */
+    public static long getDropped() {
+        return dropped.get();
+    }
+
+    public static void debug(String event, Supplier<String> message, Object... fields) {
+        if (isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, event, message.get(), fields);
+        }
+    }
+
+    public static void info(String event, String message, Object... fields) {
+        log(Level.INFO, event, message, fields);
+    }
+
+    public static void warning(String event, String message, Object... fields) {
+        log(Level.WARNING, event, message, fields);
+    }
+
+    public static void error(String event, String message, Object... fields) {
+        log(Level.ERROR, event, message, fields);
+    }
+
+    /**
+     * Logs a line of the run report, also written to cov.txt.
+     */
+    public static void report(String message) {
+        log(Level.INFO, REPORT_EVENT, message);
+    }
+
+    /**
+     * @param fields names and values of the fields of the record, alternately.
+     */
+    public static void log(Level recordLevel, String event, String message, Object... fields) {
+        if (!isEnabled(recordLevel)) {
+            return;
+        }
+
+        Map<String, Object> fieldMap = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            fieldMap.put(String.valueOf(fields[i]), fields[i + 1]);
+        }
+        Record record = new Record(recordLevel, event, message, fieldMap);
+
+        BlockingQueue<Record> records = queue;
+        if (records == null) {
+            logToJul(record);
+            return;
+        }
+
+        if (recordLevel == Level.DEBUG) {
+            if (!records.offer(record)) {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            while (!records.offer(record, 100, TimeUnit.MILLISECONDS)) {
+                // The log was closed while waiting, its writer will not take more records
+                if (queue != records) {
+                    logToJul(record);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void logToJul(Record record) {
+        logger.log(record.level.julLevel, record.fields.isEmpty() ? record.message : record.message + " " + record.fields);
+    }
+
+    private static void write(BlockingQueue<Record> records, BufferedWriter log, BufferedWriter report) {
+        Gson gson = new Gson();
+        List<Record> batch = new ArrayList<>();
+        boolean ended = false;
+        // Records are still taken after a failed write, so that the logging threads never wait for a dead writer
+        boolean failed = false;
+
+        try {
+            while (!ended) {
+                batch.add(records.take());
+                records.drainTo(batch);
+
+                try {
+                    for (Record record : batch) {
+                        if (record == END) {
+                            ended = true;
+                            break;
+                        }
+                        if (failed) {
+                            continue;
+                        }
+                        log.write(gson.toJson(record.toJson()));
+                        log.newLine();
+                        if (record.event.equals(REPORT_EVENT)) {
+                            report.write(record.message);
+                            report.newLine();
+                        }
+                    }
+                    if (!failed) {
+                        // Written as soon as the queue is empty, so that the files can be followed during the session
+                        log.flush();
+                        report.flush();
+                    }
+                } catch (IOException e) {
+                    failed = true;
+                    logger.warning("Unable to write the run log\n" + e.getMessage());
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(log);
+            closeQuietly(report);
+        }
+    }
+
+    private static void closeQuietly(BufferedWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warning("Unable to close the run log\n" + e.getMessage());
+        }
+    }
+
+    private static class Record {
+        private final long time = System.currentTimeMillis();
+        private final String thread = Thread.currentThread().getName();
+        private final Level level;
+        private final String event;
+        private final String message;
+        private final Map<String, Object> fields;
+
+        private Record(Level level, String event, String message, Map<String, Object> fields) {
+            this.level = level;
+            this.event = event;
+            this.message = message;
+            this.fields = fields;
+        }
+
+        private Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("time", Instant.ofEpochMilli(time).toString());
+            json.put("level", level.name());
+            json.put("thread", thread);
+            json.put("event", event);
+            json.put("message", message);
+            fields.forEach((name, value) -> json.put(name, value instanceof Number || value instanceof Boolean ? value : String.valueOf(value)));
+            return json;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.testrest.helper;
+
+import com.google.common.io.Resources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * English words of length 1 to 19, read once from the random_word resources.
+ * All words are stored in a single char arena, with a table of word offsets for each length.
+ */
+public class WordList {
+
+    public static final int MIN_LENGTH = 1;
+    public static final int MAX_LENGTH = 19;
+
+    private static final WordList instance = load();
+
+    private final char[] arena;
+
+    // offsets[length][i] is the start of the i-th word of that length, offsets[length][count] is the end of the last one
+    private final int[][] offsets;
+
+    private WordList(char[] arena, int[][] offsets) {
+        this.arena = arena;
+        this.offsets = offsets;
+    }
+
+    public static WordList getInstance() {
+        return instance;
+    }
+
+    private static WordList load() {
+        StringBuilder arena = new StringBuilder();
+        int[][] offsets = new int[MAX_LENGTH + 1][];
+        offsets[0] = new int[] {0};
+
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            String text;
+            try {
+                text = Resources.toString(Resources.getResource("random_word/word" + length + ".txt"), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read word list of length " + length, e);
+            }
+
+            List<Integer> starts = new ArrayList<>();
+            for (String word : text.split("\n")) {
+                starts.add(arena.length());
+                arena.append(word.replace("\r", ""));
+            }
+
+            offsets[length] = new int[starts.size() + 1];
+            for (int i = 0; i < starts.size(); i++) {
+                offsets[length][i] = starts.get(i);
+            }
+            offsets[length][starts.size()] = arena.length();
+        }
+
+        char[] chars = new char[arena.length()];
+        arena.getChars(0, arena.length(), chars, 0);
+        return new WordList(chars, offsets);
+    }
+
+    /**
+     * @param length length of the words, from 1 to 19.
+     * @return number of words of the given length.
+     */
+    public int count(int length) {
+        return offsets[length].length - 1;
+    }
+
+    /**
+     * @param length length of the word, from 1 to 19.
+     * @param index index of the word, from 0 to count(length) excluded.
+     * @return the word.
+     */
+    public String get(int length, int index) {
+        int start = offsets[length][index];
+        return new String(arena, start, offsets[length][index + 1] - start);
+    }
+}
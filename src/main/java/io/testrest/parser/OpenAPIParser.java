@@ -9,12 +9,13 @@ import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import io.testrest.Configuration;
+import io.testrest.Environment;
 import io.testrest.Main;
 import io.testrest.datatype.HttpMethod;
 import io.testrest.datatype.graph.OperationNode;
 import io.testrest.datatype.graph.OperationNodeList;
 import io.testrest.datatype.normalizer.PathNormalizer;
-import io.testrest.helper.ExtendedRandom;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -24,7 +25,6 @@ import java.util.logging.Logger;
 
 public class OpenAPIParser {
     private static final Logger logger = Logger.getLogger(OpenAPIParser.class.getName());
-    private static final ExtendedRandom random = Main.getEnvironment().getRandom();
     private static OpenAPI openAPI;
     private static List<Server> servers = new ArrayList<>();
     private static List<String> urls = new ArrayList<>(); // servers' Urls
@@ -40,6 +40,26 @@ public class OpenAPIParser {
      * @throws Exception Throws exception when the actions get error or the openAPI missing necessary parameter.
      */
     public static void readOAS(String openApiSpecPath, OperationNodeList operationList) throws Exception {
+        SpecSnapshot snapshot = Configuration.isSpecSnapshotEnabled() ?
+                SpecSnapshot.of(openApiSpecPath, Environment.getConfiguration().getOutputPath() + "/.snapshots") : null;
+
+        // Reuse the previous parsing of the same specification
+        if (snapshot != null) {
+            SpecSnapshot.ParsedSpec parsedSpec = snapshot.load();
+            if (parsedSpec != null) {
+                logger.info("Read the parsed specification from snapshot " + snapshot.getPath());
+                Environment.getConfiguration().setOpenAPIName(parsedSpec.getOpenAPIName());
+                parsedSpec.getUrls().forEach(url -> {
+                    if (!urls.contains(url)) urls.add(url);
+                });
+                pathUrls.addAll(parsedSpec.getPathUrls());
+                components = new Components();
+                schema = new HashMap<>();
+                parsedSpec.getOperationNodes().forEach(operationList::addOperation);
+                return;
+            }
+        }
+
         // Read OpenAPI Specification and parse it to POJO type
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
@@ -62,8 +82,15 @@ public class OpenAPIParser {
         readURLs();
         components = openAPI.getComponents();
         schema = components == null ? new HashMap<>() : components.getSchemas();
+        int firstOperation = operationList.getOperationNodeList().size();
+        int firstPathUrl = pathUrls.size();
         readOperations(operationList);
 
+        if (snapshot != null) {
+            List<OperationNode> operationNodes = operationList.getOperationNodeList();
+            snapshot.save(new SpecSnapshot.ParsedSpec(Environment.getConfiguration().getOpenAPIName(), urls,
+                    pathUrls.subList(firstPathUrl, pathUrls.size()), operationNodes.subList(firstOperation, operationNodes.size())));
+        }
     }
 
     /**
@@ -78,7 +105,7 @@ public class OpenAPIParser {
                 if (s.getVariables() != null) {
                     for (Map.Entry<String, ServerVariable> serverVariable : s.getVariables().entrySet()) {
                         String var_name = serverVariable.getKey();
-                        String var_value = serverVariable.getValue().getEnum() == null ? serverVariable.getValue().getDefault() : serverVariable.getValue().getEnum().get(random.nextInt(0, serverVariable.getValue().getEnum().size()));
+                        String var_value = serverVariable.getValue().getEnum() == null ? serverVariable.getValue().getDefault() : serverVariable.getValue().getEnum().get(Main.getEnvironment().getRandom().nextInt(0, serverVariable.getValue().getEnum().size()));
                         url = url.replace("{" + var_name + "}", var_value);
                     }
                 }
@@ -0,0 +1,284 @@
+package io.testrest.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.testrest.Environment;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.helper.Digests;
+import io.testrest.helper.FileHelper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk snapshot of a parsed specification, named after the SHA-256 hash of the specification file, of the local
+ * files it references and of the specification version the operations are read with, so that repeated runs on an
+ * unchanged specification skip its parsing and full resolution. Specifications referencing remote files have no
+ * snapshot, as their content is only known by fetching them.
+ * The snapshot keeps the name of the API, the server URLs, the normalized paths and, for each operation, its method, path, outputs and
+ * a trimmed copy of its OpenAPI operation (ID, resolved parameters and response status codes), from which the
+ * operation nodes and their parameter leaves are rebuilt.
+ */
+public class SpecSnapshot {
+    private static final Logger logger = Logger.getLogger(SpecSnapshot.class.getName());
+
+    // Changes whenever the layout of the snapshot or of the parsed operations changes
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAGIC = 0x47544453;
+
+    private static final ObjectMapper mapper = Json.mapper();
+
+    // Referenced file of a $ref in a YAML or JSON document, empty for references within the document
+    private static final Pattern reference = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}#]*)");
+
+    private final Path path;
+
+    private SpecSnapshot(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @param openApiSpecPath path to the specification.
+     * @param snapshotDirectory directory of the snapshots.
+     * @return the snapshot of the specification, null if the specification is not a readable local file or references
+     * a remote file.
+     */
+    public static SpecSnapshot of(String openApiSpecPath, String snapshotDirectory) {
+        Path specPath;
+        try {
+            specPath = Paths.get(openApiSpecPath);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (!Files.isRegularFile(specPath)) {
+            return null;
+        }
+
+        try {
+            String hash = hash(specPath);
+            if (hash == null) {
+                logger.info("Specification " + openApiSpecPath + " references remote files, parsing it without snapshot.");
+                return null;
+            }
+            return new SpecSnapshot(Paths.get(snapshotDirectory, hash + ".snapshot"));
+        } catch (IOException e) {
+            logger.warning("Unable to hash specification " + openApiSpecPath + "\n" + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Hashes the specification followed by each local file it references, directly or not, with the reference.
+     * @return the hash, null if a remote file is referenced.
+     */
+    private static String hash(Path specPath) throws IOException {
+        int specVersion = Environment.getConfiguration() == null ? 0 : Environment.getConfiguration().getSpecVersion();
+        List<byte[]> parts = new ArrayList<>();
+        parts.add(("snapshot-v" + FORMAT_VERSION + " spec-v" + specVersion).getBytes(StandardCharsets.UTF_8));
+
+        Set<Path> visited = new HashSet<>();
+        Deque<Path> documents = new ArrayDeque<>();
+        documents.add(specPath.toAbsolutePath().normalize());
+        visited.add(documents.peek());
+
+        while (!documents.isEmpty()) {
+            Path document = documents.poll();
+            byte[] content = Files.readAllBytes(document);
+            parts.add(content);
+
+            Matcher matcher = reference.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String referenced = matcher.group(1);
+                if (referenced.isEmpty()) continue;
+                if (referenced.contains("://") || referenced.startsWith("//")) {
+                    return null;
+                }
+
+                Path referencedPath = document.resolveSibling(referenced).normalize();
+                if (visited.add(referencedPath)) {
+                    documents.add(referencedPath);
+                    parts.add(("\n$ref " + referenced + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        return Digests.sha256(parts.toArray(new byte[0][]));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean exists() {
+        return Files.isRegularFile(path);
+    }
+
+    /**
+     * Reads the snapshot.
+     * @return the parsed specification, null if the snapshot does not exist or cannot be read.
+     */
+    public ParsedSpec load() {
+        if (!exists()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+
+            ParsedSpec spec = new ParsedSpec();
+            spec.openAPIName = readString(in);
+            spec.urls.addAll(readStrings(in));
+            spec.pathUrls.addAll(readStrings(in));
+
+            int operations = in.readInt();
+            for (int i = 0; i < operations; i++) {
+                HttpMethod method = HttpMethod.valueOf(readString(in));
+                String operationPath = readString(in);
+                List<String> outputs = readStrings(in);
+                Operation operation = mapper.readValue(readBytes(in), Operation.class);
+
+                OperationNode operationNode = new OperationNode(method, operationPath, operation);
+                operationNode.setOutputs(outputs);
+                spec.operationNodes.add(operationNode);
+            }
+            return spec;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Unable to read specification snapshot " + path + ", parsing the specification.\n" + e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file, then moves it to its path.
+     * @param spec the parsed specification.
+     */
+    public void save(ParsedSpec spec) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    writeString(out, spec.openAPIName == null ? "" : spec.openAPIName);
+                    writeStrings(out, spec.urls);
+                    writeStrings(out, spec.pathUrls);
+
+                    out.writeInt(spec.operationNodes.size());
+                    for (OperationNode operationNode : spec.operationNodes) {
+                        writeString(out, operationNode.getMethod().name());
+                        writeString(out, operationNode.getPath());
+                        writeStrings(out, operationNode.getOutputs() == null ? List.of() : operationNode.getOutputs());
+                        writeBytes(out, mapper.writeValueAsBytes(trim(operationNode)));
+                    }
+                }
+                FileHelper.replace(temp, path);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to write specification snapshot " + path + "\n" + e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the parts of an operation used to rebuild its node. Outputs are stored apart, so response contents,
+     * which are the largest part of fully resolved specifications, are left out.
+     */
+    private static Operation trim(OperationNode operationNode) {
+        Operation operation = new Operation();
+        operation.setOperationId(operationNode.getOperationId());
+        operation.setParameters(operationNode.getParameters());
+
+        if (operationNode.getResponses() != null) {
+            ApiResponses responses = new ApiResponses();
+            operationNode.getResponses().forEach((status, response) ->
+                    responses.addApiResponse(status, new ApiResponse().description(response.getDescription())));
+            operation.setResponses(responses);
+        }
+        return operation;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Result of the parsing of a specification.
+     */
+    public static class ParsedSpec {
+        private String openAPIName;
+        private final List<String> urls = new ArrayList<>();
+        private final List<String> pathUrls = new ArrayList<>();
+        private final List<OperationNode> operationNodes = new ArrayList<>();
+
+        public ParsedSpec() {
+        }
+
+        public ParsedSpec(String openAPIName, List<String> urls, List<String> pathUrls, List<OperationNode> operationNodes) {
+            this.openAPIName = openAPIName;
+            this.urls.addAll(urls);
+            this.pathUrls.addAll(pathUrls);
+            this.operationNodes.addAll(operationNodes);
+        }
+
+        public String getOpenAPIName() {
+            return openAPIName;
+        }
+
+        public List<String> getUrls() {
+            return urls;
+        }
+
+        public List<String> getPathUrls() {
+            return pathUrls;
+        }
+
+        public List<OperationNode> getOperationNodes() {
+            return operationNodes;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.testrest.core.dictionary;
+
+import io.testrest.datatype.parameter.NormalizedParameterName;
+import io.testrest.datatype.parameter.ParameterName;
+import io.testrest.datatype.parameter.ParameterType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDictionary {
+
+    private static DictionaryEntry entry(String name, Object value, ParameterType type) {
+        DictionaryEntry entry = new DictionaryEntry(name, value);
+        entry.setParameterType(type);
+        return entry;
+    }
+
+    @Test
+    public void testDuplicatesAreMerged() {
+        Dictionary dictionary = new Dictionary();
+        DictionaryEntry first = entry("userId", "42", ParameterType.STRING);
+        dictionary.addEntry(first);
+        dictionary.addEntry(entry("userId", "42", ParameterType.STRING));
+        dictionary.addEntry(entry("userId", "43", ParameterType.STRING));
+
+        assertEquals(2, dictionary.size());
+        assertSame(first, dictionary.getEntriesByParameterName(new ParameterName("userId"), ParameterType.STRING).get(0));
+    }
+
+    @Test
+    public void testUntypedEntryMatchesAnyType() {
+        Dictionary dictionary = new Dictionary();
+        dictionary.addEntry(entry("userId", "42", null));
+        dictionary.addEntry(entry("userId", "42", ParameterType.STRING));
+
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void testLookupByNormalizedNameKeepsInsertionOrder() {
+        Dictionary dictionary = new Dictionary();
+        DictionaryEntry typed1 = entry("user_id", "1", ParameterType.STRING);
+        DictionaryEntry untyped = entry("userId", "2", null);
+        DictionaryEntry typed2 = entry("userIds", "3", ParameterType.STRING);
+        DictionaryEntry otherType = entry("userId", "4", ParameterType.INTEGER);
+        dictionary.addEntry(typed1);
+        dictionary.addEntry(untyped);
+        dictionary.addEntry(typed2);
+        dictionary.addEntry(otherType);
+
+        List<DictionaryEntry> entries = dictionary.getEntriesByNormalizedParameterName(new NormalizedParameterName("userId"), ParameterType.STRING);
+        assertEquals(List.of(typed1, untyped, typed2), entries);
+        assertEquals(List.of(untyped), dictionary.getEntriesByNormalizedParameterName(new NormalizedParameterName("userId"), null));
+    }
+
+    @Test
+    public void testLookupByValueLength() {
+        Dictionary dictionary = new Dictionary();
+        dictionary.addEntry(entry("name", "abc", ParameterType.STRING));
+        dictionary.addEntry(entry("code", "xyz", null));
+        dictionary.addEntry(entry("name", "abcd", ParameterType.STRING));
+
+        assertEquals(2, dictionary.getEntriesByValueLength(3).size());
+        assertEquals(0, dictionary.getEntriesByValueLength(5).size());
+    }
+
+    private static List<Object> values(List<DictionaryEntry> entries) {
+        return entries.stream().map(DictionaryEntry::getValue).collect(Collectors.toList());
+    }
+
+    private static DictionaryEntry entry(String name, Object value, long discoveryTime) {
+        DictionaryEntry entry = entry(name, value, ParameterType.STRING);
+        entry.setDiscoveryTime(new Timestamp(discoveryTime));
+        return entry;
+    }
+
+    @Test
+    public void testLeastRecentlyObservedIsEvicted() {
+        Dictionary dictionary = new Dictionary(2, EvictionPolicy.LRU, new Random(0));
+        DictionaryEntry pinned = entry("petId", "1", 1);
+        DictionaryEntry old = entry("petId", "2", 2);
+        dictionary.addPinnedEntry(pinned);
+        dictionary.addEntry(old);
+        dictionary.addEntry(entry("petId", "3", 3));
+        dictionary.addEntry(entry("name", "Rex", 4));
+
+        NormalizedParameterName petId = new NormalizedParameterName("petId");
+        assertEquals(List.of("1", "3"), values(dictionary.getEntriesByNormalizedParameterName(petId, ParameterType.STRING)));
+        assertFalse(dictionary.getEntriesByValueLength(1).contains(old));
+        assertEquals(1, dictionary.getEvictions());
+        assertEquals(3, dictionary.size());
+        assertTrue(dictionary.isPinned(pinned));
+    }
+
+    @Test
+    public void testLeastObservedIsEvicted() {
+        Dictionary dictionary = new Dictionary(2, EvictionPolicy.FREQUENCY, new Random(0));
+        dictionary.addEntry(entry("petId", "1", 1));
+        dictionary.addEntry(entry("petId", "2", 2));
+        dictionary.addEntry(entry("petId", "1", 3));
+        dictionary.addEntry(entry("petId", "3", 4));
+
+        assertEquals(List.of("1", "3"), values(dictionary.getEntries()));
+        assertEquals(List.of("3"), values(dictionary.getEntries(1, dictionary.getInsertions())));
+    }
+
+    @Test
+    public void testReservoirIsBounded() {
+        Dictionary dictionary = new Dictionary(10, EvictionPolicy.RESERVOIR, new Random(0));
+        for (int i = 0; i < 1000; i++) {
+            dictionary.addEntry(entry("petId", String.valueOf(i), i));
+        }
+
+        assertEquals(10, dictionary.size());
+        assertEquals(990, dictionary.getEvictions() + dictionary.getRejections());
+        assertTrue(dictionary.getRejections() > dictionary.getEvictions());
+    }
+}
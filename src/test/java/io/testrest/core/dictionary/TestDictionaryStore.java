@@ -0,0 +1,49 @@
+package io.testrest.core.dictionary;
+
+import io.testrest.datatype.parameter.NormalizedParameterName;
+import io.testrest.datatype.parameter.ParameterType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestDictionaryStore {
+
+    private static final long DAY = 24 * 3_600_000L;
+
+    @Test
+    public void testValuesAreLoadedByName(@TempDir Path directory) {
+        Path path = directory.resolve("spec.dictionary");
+        Dictionary dictionary = new Dictionary();
+        DictionaryEntry petId = new DictionaryEntry("petId", 42);
+        petId.setNormalizedParameterName(NormalizedParameterName.fromNormalizedName("pet id"));
+        petId.setParameterType(ParameterType.INTEGER);
+        dictionary.addEntry(petId);
+        dictionary.addEntry(new DictionaryEntry("name", "Rex"));
+
+        DictionaryEntry expired = new DictionaryEntry("name", "Old");
+        expired.setDiscoveryTime(new Timestamp(System.currentTimeMillis() - 2 * DAY));
+        dictionary.addEntry(expired);
+
+        new DictionaryStore(path, DAY).save(dictionary);
+
+        DictionaryStore store = new DictionaryStore(path, DAY);
+        assertEquals(2, store.size());
+
+        Dictionary resumed = new Dictionary();
+        assertEquals(1, store.load(NormalizedParameterName.fromNormalizedName("pet id"), resumed));
+        assertEquals(0, store.load(NormalizedParameterName.fromNormalizedName("pet id"), resumed));
+        assertEquals(1, resumed.size());
+
+        DictionaryEntry loaded = resumed.getEntriesByNormalizedParameterName(NormalizedParameterName.fromNormalizedName("pet id"),
+                ParameterType.INTEGER).get(0);
+        assertEquals(42, loaded.getValue());
+        assertEquals("petId", loaded.getParameterName().toString());
+
+        assertEquals(1, store.load(new NormalizedParameterName("name"), resumed));
+        assertEquals("Rex", resumed.getEntries().get(1).getValue());
+    }
+}
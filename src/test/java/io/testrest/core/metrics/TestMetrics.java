@@ -0,0 +1,57 @@
+package io.testrest.core.metrics;
+
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestMetrics {
+
+    @Test
+    public void testQuantilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000_000L, histogram.getMax());
+        assertEquals(500, histogram.getValueAtQuantile(0.5) / 1e6, 500 / 16.);
+        assertEquals(990, histogram.getValueAtQuantile(0.99) / 1e6, 990 / 16.);
+        assertEquals(1000, histogram.getValueAtQuantile(1) / 1e6, 1e-9);
+
+        for (long value : new long[]{0, 15, 16, 17, 1023, 1024, 123_456_789}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(value <= LatencyHistogram.bucketUpperBound(index));
+            assertTrue(index == 0 || value > LatencyHistogram.bucketUpperBound(index - 1));
+        }
+    }
+
+    @Test
+    public void testExport(@TempDir Path directory) throws Exception {
+        Metrics.reset();
+        OperationNode operation = new OperationNode(HttpMethod.GET, "/pets");
+        Metrics.record(Phase.REQUEST_EXECUTION, operation, 2_000_000);
+        Metrics.record(Phase.PARSE, null, 5_000_000);
+        Metrics.increment("responses_2xx", operation);
+
+        assertEquals(1, Metrics.getHistogram(Phase.PARSE).getCount());
+        assertEquals(1, Metrics.getHistogram(Phase.REQUEST_EXECUTION, operation.getOperationId()).getCount());
+        assertNull(Metrics.getHistogram(Phase.PARSE, operation.getOperationId()));
+
+        Metrics.export(directory);
+
+        List<String> prometheus = Files.readAllLines(directory.resolve(Metrics.PROMETHEUS_FILE));
+        assertTrue(prometheus.contains("genoted_phase_seconds_count{phase=\"parse\"} 1"));
+        assertTrue(prometheus.contains("genoted_responses_2xx_total{operation=\"" + operation.getOperationId() + "\"} 1"));
+        assertTrue(Files.readAllLines(directory.resolve(Metrics.CSV_FILE)).contains(
+                "request_execution," + operation.getOperationId() + ",1,2.000,2.000,2.000,2.000,2.000,2.000"));
+        assertTrue(Files.readString(directory.resolve(Metrics.JSON_FILE)).contains("\"responses_2xx\": 1"));
+    }
+}
@@ -0,0 +1,63 @@
+package io.testrest.core.oracle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResponseValueHarvester {
+
+    @Test
+    public void testNestedValuesAreHarvested() {
+        ResponseValueHarvester harvester = new ResponseValueHarvester(List.of("id", "name"), 10);
+        assertTrue(harvester.harvest("{\"data\": {\"id\": 12, \"owner\": {\"name\": \"alice\"}}, \"tags\": [1, 2]}"));
+
+        assertEquals(List.of("12"), harvester.getValues().get("id"));
+        assertEquals(List.of("alice"), harvester.getValues().get("name"));
+        assertFalse(harvester.getValues().containsKey("tags"));
+    }
+
+    @Test
+    public void testValuesPerKeyAreCapped() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append(", \"ids\": [\"a\", \"b\"]}");
+        }
+        body.append("]");
+
+        ResponseValueHarvester harvester = new ResponseValueHarvester(List.of("id", "ids"), 3);
+        assertTrue(harvester.harvest(body.toString()));
+
+        assertEquals(List.of("0", "1", "2"), harvester.getValues().get("id"));
+        assertEquals(List.of("a", "b", "a"), harvester.getValues().get("ids"));
+    }
+
+    @Test
+    public void testTopLevelStatus() {
+        ResponseValueHarvester harvester = new ResponseValueHarvester(List.of("code"), 10);
+        assertTrue(harvester.harvest("{\"message\": {\"code\": 500}, \"code\": 404, \"status\": \"error\"}"));
+
+        assertEquals("404", harvester.getTopLevelCode());
+        assertEquals("error", harvester.getTopLevelStatus());
+        assertEquals(List.of("500", "404"), harvester.getValues().get("code"));
+    }
+
+    @Test
+    public void testNoTopLevelStatusInRootArray() {
+        ResponseValueHarvester harvester = new ResponseValueHarvester(List.of("id", "code"), 10);
+        assertTrue(harvester.harvest("[{\"id\": 1, \"code\": \"404\"}, {\"id\": 2, \"status\": \"error\"}]"));
+
+        assertNull(harvester.getTopLevelCode());
+        assertNull(harvester.getTopLevelStatus());
+        assertEquals(List.of("1", "2"), harvester.getValues().get("id"));
+        assertEquals(List.of("404"), harvester.getValues().get("code"));
+    }
+
+    @Test
+    public void testMalformedJson() {
+        ResponseValueHarvester harvester = new ResponseValueHarvester(List.of("id"), 10);
+        assertFalse(harvester.harvest("{\"id\": 1"));
+        assertFalse(new ResponseValueHarvester(List.of("id"), 10).harvest("{\"id\": 1} trailing"));
+    }
+}
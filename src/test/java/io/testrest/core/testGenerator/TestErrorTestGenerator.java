@@ -0,0 +1,101 @@
+package io.testrest.core.testGenerator;
+
+import com.sun.net.httpserver.HttpServer;
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.testing.RequestExecutor;
+import io.testrest.core.testing.TestInteraction;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLocation;
+import io.testrest.datatype.parameter.StringParameter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestErrorTestGenerator {
+
+    private HttpServer server;
+    private String url;
+    private ErrorTestGenerator generator;
+
+    @BeforeEach
+    public void setUp(@TempDir Path directory) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"src/main/resources/specifications/restgo/genome_openapi.yaml\"}");
+        Main.setEnvironment(new Environment(config.toString()));
+        // Test paths are kept relative to the output directory
+        Main.getConfiguration().setOutputPath(directory.resolve("output").toString());
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            // Only negative ages are rejected
+            exchange.sendResponseHeaders(body.contains("\"age\":\"-1\"") ? 400 : 200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        url = "http://localhost:" + server.getAddress().getPort();
+        generator = new ErrorTestGenerator(List.of(url));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testOnlyRejectedMutantsAreKept() {
+        TestInteraction rejected = mutant("-1");
+        TestInteraction accepted = mutant("1000");
+
+        assertTrue(generator.generateOperationTest(rejected));
+        assertEquals(400, rejected.getResponseStatusCode().getCode());
+        assertFalse(generator.generateOperationTest(accepted));
+        assertEquals(200, accepted.getResponseStatusCode().getCode());
+    }
+
+    @Test
+    public void testUnexecutedMutantIsRejected() {
+        server.stop(0);
+
+        assertFalse(generator.generateOperationTest(mutant("-1")));
+    }
+
+    @Test
+    public void testScenarioSendsTheExecutedBody() {
+        TestInteraction mutant = mutant("-1");
+        mutant.addTag(RequestExecutor.LENGTH_REQUIRED_TAG);
+        assertTrue(generator.generateOperationTest(mutant));
+
+        String scenario = generator.generateScenario(mutant);
+        assertTrue(scenario.contains("\n\t\tGiven header content-length = 0"));
+        assertTrue(scenario.contains("\n\t\tAnd request {\"age\":\"-1\"}\n\t\tWhen method POST"));
+        assertTrue(scenario.endsWith("\n\t\tThen assert responseStatus >= 400 && responseStatus < 500"));
+    }
+
+    /**
+     * An executed interaction of POST /pets with the given age in its body.
+     */
+    private TestInteraction mutant(String age) {
+        OperationNode operation = new OperationNode(HttpMethod.POST, "/pets");
+        StringParameter parameter = new StringParameter(operation, null, "age");
+        parameter.setLocation(ParameterLocation.REQUEST_BODY);
+
+        TestInteraction interaction = new TestInteraction(operation);
+        interaction.addRequestInput(new DictionaryEntry(parameter, age));
+        generator.setRequestInfo(interaction, url);
+        return new RequestExecutor().execute(interaction);
+    }
+}
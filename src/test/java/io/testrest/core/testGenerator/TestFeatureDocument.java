@@ -0,0 +1,37 @@
+package io.testrest.core.testGenerator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestFeatureDocument {
+
+    @Test
+    public void testScenariosAreRenderedInOrder() {
+        FeatureDocument document = new FeatureDocument("Nominal tests", "http://localhost");
+        document.addScenario("\n\tScenario: getPet");
+        document.addScenario("\n\tScenario: addPet");
+
+        assertEquals(2, document.size());
+        assertEquals("Feature: Nominal tests\n\n\tBackground:\n\t\tGiven url 'http://localhost'\n\tScenario: getPet\n\tScenario: addPet",
+                document.render());
+    }
+
+    @Test
+    public void testWriteReplacesFile(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("NominalTests").resolve("Tests.feature");
+        FeatureDocument document = new FeatureDocument("Nominal tests", "http://localhost");
+
+        document.write(path);
+        document.addScenario("\n\tScenario: getPet");
+        document.write(path);
+
+        assertEquals(document.render(), Files.readString(path));
+        assertEquals(1, Files.list(path.getParent()).count());
+    }
+}
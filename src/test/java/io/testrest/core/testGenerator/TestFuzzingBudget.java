@@ -0,0 +1,68 @@
+package io.testrest.core.testGenerator;
+
+import io.testrest.core.dictionary.Dictionary;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.dictionary.EvictionPolicy;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.StringParameter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFuzzingBudget {
+
+    @Test
+    public void testPlateau() {
+        FuzzingBudget budget = new FuzzingBudget(0, 0, 0, 2, new Dictionary());
+
+        assertFalse(budget.endLoop(1));
+        assertFalse(budget.endLoop(1));
+        assertFalse(budget.endLoop(2));
+        assertFalse(budget.endLoop(2));
+        assertTrue(budget.endLoop(2));
+        assertFalse(budget.isExhausted());
+    }
+
+    @Test
+    public void testAttemptsAndOperationBudget() {
+        FuzzingBudget budget = new FuzzingBudget(0, 1, 0, 0, new Dictionary());
+        OperationNode operationNode = new OperationNode(HttpMethod.GET, "/pets");
+
+        // No new Dictionary values for the inputs after the first try
+        assertEquals(5, budget.allocateAttempts(operationNode, 5));
+        assertEquals(1, budget.allocateAttempts(operationNode, 5));
+
+        budget.spend(operationNode, 600_000_000L);
+        assertFalse(budget.isOperationExhausted(operationNode));
+        budget.spend(operationNode, 600_000_000L);
+        assertTrue(budget.isOperationExhausted(operationNode));
+        assertFalse(budget.hasPlateaued());
+    }
+
+    @Test
+    public void testAttemptsWithBoundedDictionary() {
+        Dictionary dictionary = new Dictionary(2, EvictionPolicy.LRU, new Random(0));
+        FuzzingBudget budget = new FuzzingBudget(0, 0, 0, 0, dictionary);
+        OperationNode operationNode = new OperationNode(HttpMethod.GET, "/pets/{petId}");
+        StringParameter petId = new StringParameter(operationNode, null, "petId");
+        operationNode.setParameterLeafList(List.of(petId));
+
+        dictionary.addEntry(new DictionaryEntry(petId, "a"));
+        dictionary.addEntry(new DictionaryEntry(petId, "b"));
+        assertEquals(5, budget.allocateAttempts(operationNode, 5));
+        assertEquals(1, budget.allocateAttempts(operationNode, 5));
+
+        // The name is full, a new value evicts an old one
+        dictionary.addEntry(new DictionaryEntry(petId, "c"));
+        assertEquals(2, dictionary.size());
+        assertEquals(5, budget.allocateAttempts(operationNode, 5));
+
+        // Observing a known value again brings nothing new
+        dictionary.addEntry(new DictionaryEntry(petId, "c"));
+        assertEquals(1, budget.allocateAttempts(operationNode, 5));
+    }
+}
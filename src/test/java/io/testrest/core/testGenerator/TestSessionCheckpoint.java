@@ -0,0 +1,118 @@
+package io.testrest.core.testGenerator;
+
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.core.dictionary.Dictionary;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.testing.TestInteraction;
+import io.testrest.core.testing.TestSequence;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.HttpStatusCode;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterName;
+import io.testrest.datatype.parameter.ParameterType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSessionCheckpoint {
+
+    @Test
+    public void testResumeFromCheckpoint(@TempDir Path directory) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"src/main/resources/specifications/restgo/genome_openapi.yaml\"}");
+        Main.setEnvironment(new Environment(config.toString()));
+
+        OperationNode operation = new OperationNode(HttpMethod.GET, "/pets");
+        Function<String, OperationNode> operations = id -> id.equals(operation.getOperationId()) ? operation : null;
+        Path path = directory.resolve(SessionCheckpoint.FILE_NAME);
+
+        Dictionary dictionary = new Dictionary();
+        TestSequence testSequence = new TestSequence();
+        SessionCheckpoint checkpoint = new SessionCheckpoint(path);
+        checkpoint.restore(operations, dictionary);
+
+        DictionaryEntry petId = new DictionaryEntry("petId", 42);
+        petId.setParameterType(ParameterType.INTEGER);
+        dictionary.addEntry(petId);
+
+        TestInteraction interaction = new TestInteraction(operation);
+        interaction.addRequestInput(new DictionaryEntry("limit", 10));
+        interaction.addTag("length-required");
+        interaction.setResponseInfo(null, new HttpStatusCode(200), null, null, null, null);
+        testSequence.append(interaction);
+
+        checkpoint.checkpoint(testSequence, dictionary);
+        checkpoint.close();
+        // The process is killed while writing a record
+        Files.writeString(path, "{\"t\":\"entry\",\"na", StandardOpenOption.APPEND);
+
+        Dictionary resumedDictionary = new Dictionary();
+        try (SessionCheckpoint resumed = new SessionCheckpoint(path)) {
+            List<TestInteraction> interactions = resumed.restore(operations, resumedDictionary);
+
+            assertEquals(1, interactions.size());
+            assertSame(operation, interactions.get(0).getOperation());
+            assertEquals(10, interactions.get(0).getRequestInputs().get(0).getValue());
+            assertTrue(interactions.get(0).hasTag("length-required"));
+            assertEquals(200, interactions.get(0).getResponseStatusCode().getCode());
+            assertEquals(42, resumedDictionary.getEntriesByParameterName(new ParameterName("petId"), ParameterType.INTEGER).get(0).getValue());
+
+            // Only new values are appended
+            resumedDictionary.addEntry(new DictionaryEntry("name", "Rex"));
+            TestSequence resumedSequence = new TestSequence();
+            resumedSequence.addAll(interactions);
+            resumed.checkpoint(resumedSequence, resumedDictionary);
+        }
+
+        assertEquals(3, Files.readAllLines(path).size());
+    }
+
+    @Test
+    public void testPinnedEntriesAreRestored(@TempDir Path directory) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"src/main/resources/specifications/restgo/genome_openapi.yaml\"}");
+        Main.setEnvironment(new Environment(config.toString()));
+
+        OperationNode operation = new OperationNode(HttpMethod.GET, "/pets");
+        Function<String, OperationNode> operations = id -> id.equals(operation.getOperationId()) ? operation : null;
+        Path path = directory.resolve(SessionCheckpoint.FILE_NAME);
+
+        Dictionary dictionary = new Dictionary();
+        TestSequence testSequence = new TestSequence();
+        try (SessionCheckpoint checkpoint = new SessionCheckpoint(path)) {
+            checkpoint.restore(operations, dictionary);
+
+            dictionary.addPinnedEntry(new DictionaryEntry("owner", "Ann"));
+            dictionary.addEntry(new DictionaryEntry("name", "Rex"));
+            DictionaryEntry limit = new DictionaryEntry("limit", 10);
+            dictionary.addEntry(limit);
+            checkpoint.checkpoint(testSequence, dictionary);
+
+            // A logged value becomes the input of an accepted interaction
+            TestInteraction interaction = new TestInteraction(operation);
+            interaction.addRequestInput(limit);
+            dictionary.addPinnedEntry(limit);
+            testSequence.append(interaction);
+            checkpoint.checkpoint(testSequence, dictionary);
+        }
+
+        Dictionary resumedDictionary = new Dictionary();
+        try (SessionCheckpoint resumed = new SessionCheckpoint(path)) {
+            resumed.restore(operations, resumedDictionary);
+        }
+
+        assertEquals(3, resumedDictionary.size());
+        assertTrue(resumedDictionary.isPinned(resumedDictionary.getEntriesByParameterName(new ParameterName("owner"), null).get(0)));
+        assertFalse(resumedDictionary.isPinned(resumedDictionary.getEntriesByParameterName(new ParameterName("name"), null).get(0)));
+        assertTrue(resumedDictionary.isPinned(resumedDictionary.getEntriesByParameterName(new ParameterName("limit"), null).get(0)));
+        assertEquals(dictionary.getPinnedCount(), resumedDictionary.getPinnedCount());
+    }
+}
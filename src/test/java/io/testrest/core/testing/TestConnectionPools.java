@@ -0,0 +1,80 @@
+package io.testrest.core.testing;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLContext;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestConnectionPools {
+
+    @Test
+    public void testRequestsAreCountedPerServer() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            String url = "http://localhost:" + server.getAddress().getPort();
+            for (String path : new String[]{"/pets", "/users"}) {
+                HttpResponse<String> response = ConnectionPools.send(HttpRequest.newBuilder(URI.create(url + path)).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                assertEquals(204, response.statusCode());
+            }
+
+            assertTrue(ConnectionPools.getStats().get(url).startsWith("2 requests"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testRedirectPolicyIsHonored() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            if (exchange.getRequestURI().getPath().equals("/old")) {
+                exchange.getResponseHeaders().add("Location", "/new");
+                exchange.sendResponseHeaders(301, -1);
+            } else {
+                exchange.sendResponseHeaders(204, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            String url = "http://localhost:" + server.getAddress().getPort();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/old")).build();
+
+            assertEquals(204, ConnectionPools.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(301, ConnectionPools.send(request, HttpResponse.BodyHandlers.ofString(),
+                    HttpClient.Redirect.NEVER, Duration.ofSeconds(30)).statusCode());
+            // Both clients belong to the pool of the server
+            assertTrue(ConnectionPools.getStats().get(url).startsWith("2 requests"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testTlsConnectionsAreCounted() throws Exception {
+        AtomicLong engines = new AtomicLong();
+        SSLContext context = new ConnectionPools.CountingSSLContext(SSLContext.getDefault(), engines);
+
+        context.createSSLEngine("localhost", 443);
+        context.createSSLEngine("localhost", 443);
+
+        assertEquals(2, engines.get());
+    }
+}
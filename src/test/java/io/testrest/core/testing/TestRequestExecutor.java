@@ -0,0 +1,134 @@
+package io.testrest.core.testing;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.core.oracle.NominalTestOracle;
+import io.testrest.core.testGenerator.NominalTestGenerator;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLocation;
+import io.testrest.datatype.parameter.StringParameter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRequestExecutor {
+
+    private HttpServer server;
+    private String url;
+    private NominalTestGenerator generator;
+    // Requests received by the server, with their bodies
+    private final List<Headers> receivedHeaders = new CopyOnWriteArrayList<>();
+    private final List<String> receivedTargets = new CopyOnWriteArrayList<>();
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp(@TempDir Path directory) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"src/main/resources/specifications/restgo/genome_openapi.yaml\"}");
+        Main.setEnvironment(new Environment(config.toString()));
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            receivedHeaders.add(exchange.getRequestHeaders());
+            receivedTargets.add(exchange.getRequestURI().getRawPath() + "?" + exchange.getRequestURI().getRawQuery());
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+            // Like a server requiring the length of POST requests, the first request to /length is refused
+            int status = exchange.getRequestURI().getPath().equals("/length") && receivedTargets.size() == 1 ? 411 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        url = "http://localhost:" + server.getAddress().getPort();
+        generator = new NominalTestGenerator(List.of(url));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testPathAndQueryValuesAreEncoded() {
+        OperationNode operation = new OperationNode(HttpMethod.POST, "/pets/{name}");
+        TestInteraction interaction = new TestInteraction(operation);
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "name", ParameterLocation.PATH), "Rex Jr/2"));
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "tag", ParameterLocation.QUERY), "a&b=c d"));
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "title", ParameterLocation.REQUEST_BODY), "Mr \"Rex\""));
+
+        generator.setRequestInfo(interaction, url + "/");
+        new RequestExecutor().execute(interaction);
+
+        assertEquals(TestStatus.EXECUTED, interaction.getTestStatus());
+        assertEquals(200, interaction.getResponseStatusCode().getCode());
+        assertEquals(List.of("/pets/Rex%20Jr%2F2?tag=a%26b%3Dc%20d"), receivedTargets);
+        assertEquals("{\"title\":\"Mr \\\"Rex\\\"\"}", receivedBodies.get(0));
+        assertEquals("application/json", receivedHeaders.get(0).getFirst("Content-Type"));
+
+        // The exported scenario sends the same request, Karate encoding the path and the parameters
+        String scenario = generator.generateScenario(interaction);
+        assertTrue(scenario.contains("\n\t\tGiven path \"/pets/Rex Jr/2\""));
+        assertTrue(scenario.contains("\n\t\tAnd param tag = \"a&b=c d\""));
+        assertTrue(scenario.contains("\n\t\tAnd request " + receivedBodies.get(0)));
+        assertTrue(scenario.contains("\n\t\tWhen method POST"));
+    }
+
+    @Test
+    public void testRestrictedHeadersAreDropped() {
+        OperationNode operation = new OperationNode(HttpMethod.POST, "/pets");
+        TestInteraction interaction = new TestInteraction(operation);
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "Host", ParameterLocation.HEADER), "example.com"));
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "Content-Length", ParameterLocation.HEADER), "1000"));
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "X-Trace", ParameterLocation.HEADER), "42"));
+        interaction.addRequestInput(new DictionaryEntry(parameter(operation, "title", ParameterLocation.REQUEST_BODY), "Rex"));
+
+        generator.setRequestInfo(interaction, url);
+        new RequestExecutor().execute(interaction);
+
+        assertEquals(TestStatus.EXECUTED, interaction.getTestStatus());
+        Headers headers = receivedHeaders.get(0);
+        assertEquals("localhost:" + server.getAddress().getPort(), headers.getFirst("Host"));
+        assertEquals(String.valueOf("{\"title\":\"Rex\"}".length()), headers.getFirst("Content-Length"));
+        assertEquals("42", headers.getFirst("X-Trace"));
+    }
+
+    @Test
+    public void testLengthRequiredIsRetriedWithEmptyBody() {
+        OperationNode operation = new OperationNode(HttpMethod.POST, "/length");
+        TestInteraction interaction = new TestInteraction(operation);
+
+        generator.setRequestInfo(interaction, url);
+        new RequestExecutor().execute(interaction);
+        assertEquals(411, interaction.getResponseStatusCode().getCode());
+
+        assertTrue(new NominalTestOracle().assessOperationTest(interaction));
+        assertTrue(interaction.hasTag(RequestExecutor.LENGTH_REQUIRED_TAG));
+        assertEquals(200, interaction.getResponseStatusCode().getCode());
+        assertEquals(2, receivedHeaders.size());
+        assertEquals("0", receivedHeaders.get(1).getFirst("Content-Length"));
+        assertEquals("", receivedBodies.get(1));
+
+        assertTrue(generator.generateScenario(interaction).contains("\n\t\tGiven header content-length = 0"));
+    }
+
+    private static StringParameter parameter(OperationNode operation, String name, ParameterLocation location) {
+        StringParameter parameter = new StringParameter(operation, null, name);
+        parameter.setLocation(location);
+        return parameter;
+    }
+}
@@ -0,0 +1,52 @@
+package io.testrest.core.testing;
+
+import com.intuit.karate.http.HttpRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSuiteThrottle {
+
+    @Test
+    public void testConcurrentRequestsAreLimitedPerServer() throws Exception {
+        SuiteThrottle throttle = new SuiteThrottle(1, 0, 0);
+        assertFalse(throttle.isUnlimited());
+        // Each executor runs the requests of one scenario
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        ExecutorService second = Executors.newSingleThreadExecutor();
+
+        try {
+            // The first scenario holds the only permit of the server
+            first.submit(() -> throttle.beforeHttpCall(request("http://localhost:8080/pets"), null)).get(1, TimeUnit.SECONDS);
+
+            second.submit(() -> throttle.beforeHttpCall(request("http://localhost:9090/pets"), null)).get(1, TimeUnit.SECONDS);
+            second.submit(() -> throttle.afterScenario(null)).get(1, TimeUnit.SECONDS);
+
+            Future<?> sameServer = second.submit(() -> throttle.beforeHttpCall(request("http://localhost:8080/users"), null));
+            assertThrows(TimeoutException.class, () -> sameServer.get(200, TimeUnit.MILLISECONDS));
+
+            first.submit(() -> throttle.afterScenario(null)).get(1, TimeUnit.SECONDS);
+            sameServer.get(1, TimeUnit.SECONDS);
+        } finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNoLimit() {
+        assertTrue(new SuiteThrottle(0, 0, 0).isUnlimited());
+    }
+
+    private static HttpRequest request(String url) {
+        HttpRequest request = new HttpRequest();
+        request.setUrl(url);
+        return request;
+    }
+}
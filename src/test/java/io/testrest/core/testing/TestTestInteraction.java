@@ -0,0 +1,41 @@
+package io.testrest.core.testing;
+
+import io.testrest.core.dictionary.DictionaryEntry;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLocation;
+import io.testrest.datatype.parameter.StringParameter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTestInteraction {
+
+    @Test
+    public void testCloneCopiesInputsOnWrite() {
+        OperationNode operation = new OperationNode(HttpMethod.GET, "/pets");
+        StringParameter name = new StringParameter(operation, null, "name");
+        name.setLocation(ParameterLocation.QUERY);
+
+        TestInteraction interaction = new TestInteraction(operation);
+        DictionaryEntry rex = new DictionaryEntry(name, "Rex");
+        interaction.addRequestInput(rex);
+
+        TestInteraction clone = interaction.deepClone();
+        assertSame(operation, clone.getOperation());
+        assertEquals(interaction.getRequestInputs(), clone.getRequestInputs());
+        assertThrows(UnsupportedOperationException.class, () -> clone.getRequestInputs().add(rex));
+
+        clone.removeInput(rex);
+        clone.addRequestInput(new DictionaryEntry(name, "Max"));
+        assertEquals("Max", clone.getRequestInputs().get(0).getValue());
+        assertEquals(1, interaction.getRequestInputs().size());
+        assertSame(rex, interaction.getRequestInputs().get(0));
+
+        // The original interaction can still be changed after being cloned
+        TestInteraction secondClone = interaction.deepClone();
+        interaction.reset();
+        assertTrue(interaction.getRequestInputs().isEmpty());
+        assertEquals(1, secondClone.getRequestInputs().size());
+    }
+}
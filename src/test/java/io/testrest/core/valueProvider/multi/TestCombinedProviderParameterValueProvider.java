@@ -0,0 +1,71 @@
+package io.testrest.core.valueProvider.multi;
+
+import io.testrest.Configuration;
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.core.valueProvider.FuzzingStrategy;
+import io.testrest.core.valueProvider.ValueSource;
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.parameter.ParameterLocation;
+import io.testrest.datatype.parameter.StringParameter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCombinedProviderParameterValueProvider {
+
+    @Test
+    public void testZeroWeightSourceIsNeverChosen(@TempDir Path directory) throws Exception {
+        setEnvironment(directory, "{\"random\": {\"random\": 0}}");
+        StringParameter parameter = parameter();
+        CombinedProviderParameterValueProvider provider = new CombinedProviderParameterValueProvider();
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals("fallback", provider.provideValueFor(parameter));
+        }
+    }
+
+    @Test
+    public void testWeightedSourcesAreBothChosen(@TempDir Path directory) throws Exception {
+        setEnvironment(directory, "{\"random\": {\"default\": 3, \"random\": 1}}");
+        StringParameter parameter = parameter();
+        CombinedProviderParameterValueProvider provider = new CombinedProviderParameterValueProvider();
+
+        int defaults = 0;
+        for (int i = 0; i < 400; i++) {
+            if ("fallback".equals(provider.provideValueFor(parameter))) {
+                defaults++;
+            }
+        }
+        // Three times out of four on average, about eleven standard deviations from both bounds
+        assertTrue(defaults > 200 && defaults < 400, "default value chosen " + defaults + " times out of 400");
+    }
+
+    @Test
+    public void testInvalidWeightsAreSkipped(@TempDir Path directory) throws Exception {
+        setEnvironment(directory, "{\"random\": {\"random\": 0, \"default\": \"heavy\", \"cache\": 2}, \"greedy\": {\"random\": 1}, \"dictionary_first\": 5}");
+
+        assertEquals(0, Configuration.getValueSourceWeight(FuzzingStrategy.RANDOM, ValueSource.RANDOM));
+        assertEquals(1, Configuration.getValueSourceWeight(FuzzingStrategy.RANDOM, ValueSource.DEFAULT));
+        assertEquals(1, Configuration.getValueSourceWeight(FuzzingStrategy.DICTIONARY_FIRST, ValueSource.RANDOM));
+    }
+
+    private static void setEnvironment(Path directory, String weights) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"src/main/resources/specifications/restgo/genome_openapi.yaml\", "
+                + "\"fuzzingStrategy\": \"random\", \"valueSourceWeights\": " + weights + "}");
+        Main.setEnvironment(new Environment(config.toString()));
+    }
+
+    private static StringParameter parameter() {
+        StringParameter parameter = new StringParameter(new OperationNode(HttpMethod.GET, "/pets"), null, "nickname");
+        parameter.setLocation(ParameterLocation.QUERY);
+        parameter.setDefaultValue("fallback");
+        return parameter;
+    }
+}
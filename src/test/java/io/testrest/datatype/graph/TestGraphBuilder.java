@@ -0,0 +1,84 @@
+package io.testrest.datatype.graph;
+
+import io.testrest.Configuration;
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.datatype.normalizer.ParameterComparator;
+import io.testrest.datatype.parameter.ParameterElement;
+import io.testrest.parser.OpenAPIParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGraphBuilder {
+
+    @Test
+    public void testEdgesMatchPairwiseComparison(@TempDir Path directory) throws Exception {
+        assertEdgesMatchPairwiseComparison("src/main/resources/specifications/restgo/genome_openapi.yaml", directory);
+    }
+
+    @Test
+    public void testEdgesMatchPairwiseComparisonOnLargerSpec(@TempDir Path directory) throws Exception {
+        assertEdgesMatchPairwiseComparison("src/main/resources/specifications/swaggers/bbc.co.uk.json", directory);
+    }
+
+    private static void assertEdgesMatchPairwiseComparison(String spec, Path directory) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"" + spec + "\"}");
+        Main.setEnvironment(new Environment(config.toString()));
+        Main.getConfiguration().setOutputPath(directory.toString());
+
+        OperationNodeList operationList = new OperationNodeList();
+        Configuration.setSpecSnapshotEnabled(false);
+        try {
+            OpenAPIParser.readOAS(spec, operationList);
+        } finally {
+            Configuration.setSpecSnapshotEnabled(true);
+        }
+        Main.setOperationList(operationList);
+
+        OperationDependencyGraph ODG = new OperationDependencyGraph();
+        GraphBuilder.buildGraph(ODG);
+
+        List<String> edges = new ArrayList<>();
+        ODG.getGraph().edgeSet().forEach(edge -> edges.add(describe(ODG.getGraph().getEdgeSource(edge),
+                ODG.getGraph().getEdgeTarget(edge), edge.getParameterName())));
+
+        List<String> expected = buildPairwise(operationList.getOperationNodeList());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, edges);
+    }
+
+    /**
+     * Edges of the graph as built by comparing every input parameter with every output of every other operation.
+     */
+    private static List<String> buildPairwise(List<OperationNode> operationNodeList) {
+        List<String> edges = new ArrayList<>();
+        for (int i = 0; i < operationNodeList.size(); i++) {
+            if (operationNodeList.get(i).getParameters() == null) continue;
+
+            for (int j = 0; j < operationNodeList.size(); j++) {
+                if (i == j || operationNodeList.get(j).getOutputs() == null) continue;
+
+                for (ParameterElement pi : operationNodeList.get(i).getParameterLeafList()) {
+                    for (String pj : operationNodeList.get(j).getOutputs()) {
+                        if (ParameterComparator.matchedNames(pi, pj)) {
+                            edges.add(describe(operationNodeList.get(i), operationNodeList.get(j), pi.getNormalizedName().toString()));
+                        }
+                    }
+                }
+            }
+        }
+        return edges;
+    }
+
+    private static String describe(OperationNode source, OperationNode target, String parameterName) {
+        return source.getOperationId() + " -> " + target.getOperationId() + " : " + parameterName;
+    }
+}
@@ -0,0 +1,109 @@
+package io.testrest.datatype.graph;
+
+import io.testrest.datatype.HttpMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestOperationDependencyGraph {
+
+    @Test
+    public void testFrontierIsUpdatedOnRemoval() {
+        OperationNode create = new OperationNode(HttpMethod.POST, "/pets");
+        OperationNode read = new OperationNode(HttpMethod.GET, "/pets/{petId}");
+        OperationNode delete = new OperationNode(HttpMethod.DELETE, "/pets/{petId}");
+
+        OperationDependencyGraph ODG = new OperationDependencyGraph();
+        ODG.addVertex(delete);
+        ODG.addVertex(read);
+        ODG.addVertex(create);
+        ODG.addEdge(read, create, new DependencyEdge("PetId"));
+        ODG.addEdge(delete, create, new DependencyEdge("PetId"));
+        ODG.addEdge(delete, read, new DependencyEdge("PetName"));
+
+        assertEquals(List.of(create), ODG.getLeaves());
+
+        ODG.removeVertex(create);
+        assertEquals(List.of(read), ODG.getLeaves());
+
+        ODG.removeVertex(read);
+        assertEquals(List.of(delete), ODG.getLeaves());
+        assertNull(ODG.getOperationNodeById(read.getOperationId()));
+        assertSame(delete, ODG.getOperationNodeById(delete.getOperationId()));
+    }
+
+    @Test
+    public void testDependentNodesAndClone() {
+        OperationNode first = new OperationNode(HttpMethod.GET, "/a");
+        OperationNode second = new OperationNode(HttpMethod.GET, "/b");
+
+        OperationDependencyGraph ODG = new OperationDependencyGraph();
+        ODG.addVertex(first);
+        ODG.addVertex(second);
+        ODG.addEdge(first, second, new DependencyEdge("B"));
+        ODG.addEdge(second, first, new DependencyEdge("A"));
+
+        assertTrue(ODG.getLeaves().isEmpty());
+        assertEquals(List.of(first, second), ODG.getNextDependentNodes());
+
+        OperationDependencyGraph clone = ODG.deepClone();
+        clone.removeVertex(first);
+        assertEquals(List.of(second), clone.getLeaves());
+        assertEquals(2, ODG.getGraph().vertexSet().size());
+        assertThrows(UnsupportedOperationException.class, () -> ODG.getGraph().removeVertex(first));
+    }
+
+    @Test
+    public void testReadyComponents() {
+        OperationNode first = new OperationNode(HttpMethod.GET, "/a");
+        OperationNode second = new OperationNode(HttpMethod.POST, "/b");
+        OperationNode dependent = new OperationNode(HttpMethod.GET, "/c");
+
+        OperationDependencyGraph ODG = new OperationDependencyGraph();
+        ODG.addVertex(dependent);
+        ODG.addVertex(first);
+        ODG.addVertex(second);
+        ODG.addEdge(first, second, new DependencyEdge("B"));
+        ODG.addEdge(second, first, new DependencyEdge("A"));
+        ODG.addEdge(dependent, first, new DependencyEdge("A"));
+
+        // The cycle between first and second does not depend on other operations, POST is tested first
+        assertEquals(List.of(List.of(second, first)), ODG.getReadyComponents());
+
+        ODG.removeVertex(first);
+        ODG.removeVertex(second);
+        assertEquals(List.of(dependent), ODG.getLeaves());
+        assertEquals(List.of(List.of(dependent)), ODG.getReadyComponents());
+    }
+
+    @Test
+    public void testReadyComponentsAfterSplit() {
+        OperationNode first = new OperationNode(HttpMethod.GET, "/a");
+        OperationNode second = new OperationNode(HttpMethod.GET, "/b");
+        OperationNode third = new OperationNode(HttpMethod.GET, "/c");
+        OperationNode other = new OperationNode(HttpMethod.GET, "/d");
+        OperationNode otherCycle = new OperationNode(HttpMethod.POST, "/e");
+
+        OperationDependencyGraph ODG = new OperationDependencyGraph();
+        List.of(first, second, third, other, otherCycle).forEach(ODG::addVertex);
+        ODG.addEdge(first, second, new DependencyEdge("B"));
+        ODG.addEdge(second, third, new DependencyEdge("C"));
+        ODG.addEdge(third, first, new DependencyEdge("A"));
+        ODG.addEdge(other, otherCycle, new DependencyEdge("E"));
+        ODG.addEdge(otherCycle, other, new DependencyEdge("D"));
+
+        assertEquals(List.of(List.of(first, second, third), List.of(otherCycle, other)), ODG.getReadyComponents());
+
+        // Removing an operation splits its cycle, the other component is kept as is
+        ODG.removeVertex(second);
+        assertEquals(List.of(List.of(first), List.of(otherCycle, other)), ODG.getReadyComponents());
+        assertEquals(ODG.deepClone().getReadyComponents(), ODG.getReadyComponents());
+
+        // A new edge merges components again
+        ODG.addEdge(first, third, new DependencyEdge("C"));
+        ODG.addEdge(first, other, new DependencyEdge("D"));
+        assertEquals(List.of(List.of(otherCycle, other)), ODG.getReadyComponents());
+    }
+}
@@ -0,0 +1,45 @@
+package io.testrest.datatype.parameter;
+
+import io.testrest.datatype.HttpMethod;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.helper.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParameterElement {
+
+    @Test
+    public void testCloneCopiesExamplesOnWrite() {
+        OperationNode operation = new OperationNode(HttpMethod.GET, "/pets");
+        StringParameter parameter = new StringParameter(operation, null, "name");
+        parameter.addExample("Rex");
+
+        StringParameter clone = parameter.deepClone(operation, null);
+        assertSame(parameter.getName(), clone.getName());
+        assertSame(parameter.getNormalizedName(), clone.getNormalizedName());
+        assertSame(parameter.getExamples(), clone.getExamples());
+
+        clone.addExample("Max");
+        assertEquals(2, clone.getExamples().size());
+        assertEquals(1, parameter.getExamples().size());
+
+        parameter.addExample("Fido");
+        assertEquals(2, parameter.getExamples().size());
+        assertFalse(clone.getExamples().contains("Fido"));
+    }
+
+    @Test
+    public void testDeepCloneObject() {
+        Map<String, Object> example = Map.of("id", 1, "tags", List.of("cat", "dog"));
+        Map<String, Object> clone = ObjectHelper.deepCloneObject(example);
+
+        assertEquals(example, clone);
+        assertNotSame(example.get("tags"), clone.get("tags"));
+        // Numbers keep their type, instead of becoming doubles
+        assertEquals(1, clone.get("id"));
+    }
+}
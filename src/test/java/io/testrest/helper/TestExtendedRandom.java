@@ -1,12 +1,15 @@
 package io.testrest.helper;
 
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.lang.Integer.parseInt;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestExtendedRandom {
@@ -102,4 +105,52 @@ public class TestExtendedRandom {
         Matcher matcher = Pattern.compile("\\(?\\d+\\)?([- .]x?\\d+){1,5}").matcher(str);
         assertTrue(matcher.find());
     }
+
+    @RepeatedTest(3)
+    public void testWord() {
+        for (int length = WordList.MIN_LENGTH; length <= WordList.MAX_LENGTH; length++) {
+            String str = extendedRandom.nextWord(length);
+            assertEquals(length, str.length());
+            assertTrue(str.chars().noneMatch(c -> c == '\n' || c == '\r'));
+        }
+    }
+
+    @Test
+    public void testSplitStreamsAreReproducible() {
+        ExtendedRandom root = new ExtendedRandom(42);
+        ExtendedRandom getPets = root.split("operation getPets");
+        long first = root.nextLong();
+
+        ExtendedRandom replayed = new ExtendedRandom(42).split("operation getPets");
+        assertEquals(getPets.getSeed(), replayed.getSeed());
+        assertEquals(getPets.nextLong(), replayed.nextLong());
+        assertEquals(getPets.nextUUID(), replayed.nextUUID());
+        assertEquals(getPets.nextEmail(), replayed.nextEmail());
+
+        // Splitting does not draw from the root generator
+        assertEquals(first, new ExtendedRandom(42).nextLong());
+        assertNotEquals(getPets.getSeed(), root.split("operation getUsers").getSeed());
+        assertNotEquals(getPets.getSeed(), new ExtendedRandom(43).split("operation getPets").getSeed());
+    }
+
+    @Test
+    public void testFakerDrawsFromTheCallingGenerator() {
+        ExtendedRandom first = new ExtendedRandom(7);
+        ExtendedRandom second = new ExtendedRandom(8);
+        String email = first.nextEmail();
+        second.nextEmail();
+        String nextEmail = first.nextEmail();
+
+        // The Faker of the thread is shared, but values only depend on the generator they are drawn from
+        ExtendedRandom replayed = new ExtendedRandom(7);
+        assertEquals(email, replayed.nextEmail());
+        assertEquals(nextEmail, replayed.nextEmail());
+    }
+
+    @RepeatedTest(3)
+    public void testUUIDVersion() {
+        UUID uuid = UUID.fromString(extendedRandom.nextUUID());
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
 }
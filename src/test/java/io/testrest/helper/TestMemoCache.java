@@ -0,0 +1,55 @@
+package io.testrest.helper;
+
+import io.testrest.datatype.parameter.NormalizedParameterName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestMemoCache {
+
+    @Test
+    public void testValuesAreComputedOnce() {
+        MemoCache<String, Integer> cache = new MemoCache<>(10);
+        AtomicInteger computations = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(5, cache.get("hello", key -> {
+                computations.incrementAndGet();
+                return key.length();
+            }));
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(4, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        MemoCache<Integer, Integer> cache = new MemoCache<>(2);
+        cache.get(1, key -> key);
+        cache.get(2, key -> key);
+        cache.get(1, key -> key);
+        cache.get(3, key -> key);
+
+        assertEquals(2, cache.size());
+        cache.get(1, key -> key);
+        assertEquals(2, cache.getHits());
+        cache.get(2, key -> key);
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testNormalizedNamesAreMemoized() {
+        String name = "memoCacheTestParameter_name";
+        String normalized = NormalizedParameterName.computeNormalizedName(name);
+        long hits = NormalizedParameterName.getNormalizedNameCache().getHits();
+
+        assertEquals(normalized, NormalizedParameterName.computeNormalizedName(name));
+        assertTrue(NormalizedParameterName.getNormalizedNameCache().getHits() > hits);
+        assertEquals("MemoCachTestParametName", normalized);
+    }
+}
@@ -0,0 +1,53 @@
+package io.testrest.helper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRunLog {
+
+    @AfterEach
+    public void tearDown() {
+        RunLog.close();
+        RunLog.setLevel(RunLog.Level.INFO);
+    }
+
+    @Test
+    public void testRecordsAreWrittenOnClose(@TempDir Path directory) throws Exception {
+        RunLog.open(directory, 2);
+        RunLog.debug("operation.parameters", () -> {
+            throw new AssertionError("Debug messages are not built below their level");
+        });
+        for (int i = 0; i < 10; i++) {
+            RunLog.report("Loop: " + i);
+        }
+        RunLog.warning("graph.export", "Unable to export", "operation", "getPets", "status", 500);
+        RunLog.close();
+
+        List<String> report = Files.readAllLines(directory.resolve(RunLog.REPORT_FILE));
+        assertEquals(10, report.size());
+        assertEquals("Loop: 9", report.get(9));
+
+        List<String> log = Files.readAllLines(directory.resolve(RunLog.LOG_FILE));
+        assertEquals(11, log.size());
+        assertTrue(log.get(10).contains("\"level\":\"WARNING\""));
+        assertTrue(log.get(10).contains("\"operation\":\"getPets\",\"status\":500"));
+    }
+
+    @Test
+    public void testDebugRecordsAreKeptWhenVerbose(@TempDir Path directory) throws Exception {
+        RunLog.setLevel(RunLog.Level.DEBUG);
+        RunLog.open(directory, 16);
+        RunLog.debug("mutation.apply", () -> "Applying wrong type mutation.");
+        RunLog.close();
+
+        assertTrue(Files.readString(directory.resolve(RunLog.LOG_FILE)).contains("Applying wrong type mutation."));
+        assertEquals(0, Files.size(directory.resolve(RunLog.REPORT_FILE)));
+    }
+}
@@ -0,0 +1,93 @@
+package io.testrest.parser;
+
+import io.testrest.Configuration;
+import io.testrest.Environment;
+import io.testrest.Main;
+import io.testrest.datatype.graph.OperationNode;
+import io.testrest.datatype.graph.OperationNodeList;
+import io.testrest.datatype.parameter.ParameterLeaf;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSpecSnapshot {
+
+    private static final String SPEC = "src/main/resources/specifications/restgo/genome_openapi.yaml";
+
+    @Test
+    public void testSnapshotRoundTrip(@TempDir Path directory) throws Exception {
+        Path config = directory.resolve("config.json");
+        Files.writeString(config, "{\"openApiSpecPath\": \"" + SPEC + "\"}");
+        Main.setEnvironment(new Environment(config.toString()));
+
+        // Parse without the snapshot of the output directory
+        Configuration.setSpecSnapshotEnabled(false);
+        OperationNodeList operationList = new OperationNodeList();
+        try {
+            OpenAPIParser.readOAS(SPEC, operationList);
+        } finally {
+            Configuration.setSpecSnapshotEnabled(true);
+        }
+
+        SpecSnapshot snapshot = SpecSnapshot.of(SPEC, directory.resolve(".snapshots").toString());
+        assertNotNull(snapshot);
+        snapshot.save(new SpecSnapshot.ParsedSpec("genome", OpenAPIParser.getUrls(), List.of(), operationList.getOperationNodeList()));
+        assertTrue(snapshot.exists());
+
+        SpecSnapshot.ParsedSpec loaded = snapshot.load();
+        assertNotNull(loaded);
+        assertEquals("genome", loaded.getOpenAPIName());
+        assertEquals(OpenAPIParser.getUrls(), loaded.getUrls());
+        assertEquals(describe(operationList.getOperationNodeList()), describe(loaded.getOperationNodes()));
+    }
+
+    @Test
+    public void testSnapshotIsNamedAfterContent(@TempDir Path directory) throws IOException {
+        Path spec = directory.resolve("spec.yaml");
+        Files.writeString(spec, "openapi: 3.0.0");
+        SpecSnapshot first = SpecSnapshot.of(spec.toString(), directory.toString());
+
+        assertEquals(first.getPath(), SpecSnapshot.of(spec.toString(), directory.toString()).getPath());
+        Files.writeString(spec, "openapi: 3.0.1");
+        assertNotEquals(first.getPath(), SpecSnapshot.of(spec.toString(), directory.toString()).getPath());
+        assertNull(SpecSnapshot.of("https://example.com/openapi.yaml", directory.toString()));
+    }
+
+    @Test
+    public void testSnapshotCoversReferencedFiles(@TempDir Path directory) throws IOException {
+        Path spec = directory.resolve("spec.yaml");
+        Path schemas = Files.createDirectories(directory.resolve("schemas")).resolve("pet.json");
+        Files.writeString(spec, "openapi: 3.0.0\nschema:\n  $ref: 'schemas/pet.json#/Pet'\nother:\n  $ref: '#/schema'");
+        Files.writeString(schemas, "{\"Pet\": {\"type\": \"string\"}}");
+        SpecSnapshot first = SpecSnapshot.of(spec.toString(), directory.toString());
+
+        assertNotNull(first);
+        assertEquals(first.getPath(), SpecSnapshot.of(spec.toString(), directory.toString()).getPath());
+        // Only the referenced file changes
+        Files.writeString(schemas, "{\"Pet\": {\"type\": \"integer\"}}");
+        assertNotEquals(first.getPath(), SpecSnapshot.of(spec.toString(), directory.toString()).getPath());
+
+        Files.writeString(schemas, "{\"Pet\": {\"$ref\": \"https://example.com/pet.json\"}}");
+        assertNull(SpecSnapshot.of(spec.toString(), directory.toString()));
+    }
+
+    private static List<String> describe(List<OperationNode> operationNodes) {
+        List<String> description = new ArrayList<>();
+        for (OperationNode operationNode : operationNodes) {
+            description.add(operationNode.getOperationId() + " " + operationNode.getMethod() + " " + operationNode.getPath()
+                    + " " + operationNode.getOutputs() + " " + operationNode.getResponses().keySet());
+            for (ParameterLeaf leaf : operationNode.getParameterLeafList()) {
+                description.add(leaf.getName() + " " + leaf.getNormalizedName() + " " + leaf.getLocation() + " "
+                        + leaf.getType() + " " + leaf.isRequired() + " " + leaf.getEnumValues());
+            }
+        }
+        return description;
+    }
+}